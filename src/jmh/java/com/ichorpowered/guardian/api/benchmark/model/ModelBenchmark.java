@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.benchmark.model;
+
+import com.ichorpowered.guardian.api.game.model.value.key.GameKeys;
+import com.ichorpowered.guardian.api.game.model.value.table.IdDoubleTable;
+import com.ichorpowered.guardian.api.game.model.value.table.NamedDoubleTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the value tables of the model layer, using the
+ * material distances of {@link GameKeys#MATERIAL_HORIZONTAL_DISTANCE}.
+ *
+ * <p>Only classes shipped in this API are measured. A boxed
+ * {@link HashMap} is measured alongside as the baseline the tables
+ * replace. Run with the {@code gc} profiler to report
+ * {@code gc.alloc.rate.norm} alongside the average time.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelBenchmark {
+
+    private static final String[] MATERIALS = {"gas", "liquid", "solid", "ice"};
+    private static final double[] DISTANCES = {1.045, 1.025, 1.015, 1.3};
+
+    private final Map<String, Double> map = new HashMap<>();
+    private NamedDoubleTable namedTable;
+    private IdDoubleTable idTable;
+
+    // A copy of the name that is not interned, as read from a configuration.
+
+    private String ice;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.namedTable = new NamedDoubleTable(MATERIALS.length);
+
+        for (int i = 0; i < MATERIALS.length; i++) {
+            this.map.put(MATERIALS[i], DISTANCES[i]);
+            this.namedTable.put(MATERIALS[i], DISTANCES[i]);
+        }
+
+        this.idTable = this.namedTable.toIdTable(this::indexOf);
+        this.ice = new String(MATERIALS[3].toCharArray());
+    }
+
+    // Map
+
+    @Benchmark
+    public double mapGet() {
+        return this.map.getOrDefault("ice", 1.0);
+    }
+
+    @Benchmark
+    public Double mapPut() {
+        return this.map.put("ice", 1.3);
+    }
+
+    // Named Table
+
+    @Benchmark
+    public double namedTableGet() {
+        return this.namedTable.get("ice", 1.0);
+    }
+
+    @Benchmark
+    public double namedTableGetNotInterned() {
+        return this.namedTable.get(this.ice, 1.0);
+    }
+
+    @Benchmark
+    public NamedDoubleTable namedTablePut() {
+        this.namedTable.put("ice", 1.3);
+        return this.namedTable;
+    }
+
+    @Benchmark
+    public NamedDoubleTable namedTableCopy() {
+        return this.namedTable.copy();
+    }
+
+    // Id Table
+
+    @Benchmark
+    public double idTableGet() {
+        return this.idTable.get(3, 1.0);
+    }
+
+    @Benchmark
+    public IdDoubleTable idTablePut() {
+        this.idTable.put(3, 1.3);
+        return this.idTable;
+    }
+
+    private int indexOf(final String material) {
+        for (int i = 0; i < MATERIALS.length; i++) {
+            if (MATERIALS[i].equals(material)) return i;
+        }
+
+        return -1;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.benchmark.sequence;
+
+import com.ichorpowered.guardian.api.sequence.capture.statistic.ExponentialAverage;
+import com.ichorpowered.guardian.api.sequence.capture.statistic.QuantileEstimate;
+import com.ichorpowered.guardian.api.sequence.capture.statistic.RollingStatistic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the statistic captures on the path of every
+ * observed event.
+ *
+ * <p>Only classes shipped in this API are measured. The sequence
+ * engine lives in the implementation and is measured there. Run
+ * with the {@code gc} profiler to report {@code gc.alloc.rate.norm}
+ * alongside throughput.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SequenceBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final double[] samples = new double[SAMPLES];
+    private int sample;
+
+    private RollingStatistic rollingStatistic;
+    private ExponentialAverage exponentialAverage;
+    private QuantileEstimate quantileEstimate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < SAMPLES; i++) this.samples[i] = 40 + (i * 7919 % 61);
+
+        this.rollingStatistic = new RollingStatistic(process -> 0, 64);
+        this.exponentialAverage = new ExponentialAverage(process -> 0, 0.1);
+        this.quantileEstimate = new QuantileEstimate(process -> 0, 0.95);
+    }
+
+    @Benchmark
+    public double rollingStatisticAdd() {
+        this.rollingStatistic.add(this.next());
+        return this.rollingStatistic.getMax();
+    }
+
+    @Benchmark
+    public double rollingStatisticStandardDeviation() {
+        this.rollingStatistic.add(this.next());
+        return this.rollingStatistic.getStandardDeviation();
+    }
+
+    @Benchmark
+    public double exponentialAverageAdd() {
+        this.exponentialAverage.add(this.next());
+        return this.exponentialAverage.getMean();
+    }
+
+    @Benchmark
+    public double quantileEstimateAdd() {
+        this.quantileEstimate.add(this.next());
+        return this.quantileEstimate.getEstimate();
+    }
+
+    private double next() {
+        return this.samples[this.sample++ & (SAMPLES - 1)];
+    }
+
+}
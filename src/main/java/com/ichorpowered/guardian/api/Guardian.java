@@ -33,6 +33,7 @@ import com.ichorpowered.guardian.api.detection.DetectionController;
 import com.ichorpowered.guardian.api.game.model.ModelFactories;
 import com.ichorpowered.guardian.api.game.model.ModelRegistry;
 import com.ichorpowered.guardian.api.game.resource.ResourceFactories;
+import com.ichorpowered.guardian.api.metric.GuardianMetrics;
 import com.ichorpowered.guardian.api.storage.GlobalConfiguration;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -51,6 +52,7 @@ public final class Guardian {
     @Inject private static ModelRegistry modelRegistry;
     @Inject private static ModelFactories modelFactories;
     @Inject private static ResourceFactories resourceFactories;
+    @Inject private static GuardianMetrics metrics;
 
     private static <T> @Nullable T check(@Nullable T instance) {
         checkState(instance != null, "Guardian has not been initialized!");
@@ -120,4 +122,14 @@ public final class Guardian {
         return check(resourceFactories);
     }
 
+    /**
+     * Returns the {@link GuardianMetrics} for recording and exporting
+     * the cost of detections and their sequences.
+     *
+     * @return the metrics
+     */
+    public static @Nullable GuardianMetrics getMetrics() {
+        return check(metrics);
+    }
+
 }
@@ -27,6 +27,7 @@ package com.ichorpowered.guardian.api.detection;
 
 import com.google.inject.assistedinject.Assisted;
 import com.ichorpowered.guardian.api.detection.stage.StageCycle;
+import com.ichorpowered.guardian.api.detection.stage.StagePlan;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -36,12 +37,42 @@ public interface Detection {
 
     @NonNull String getName();
 
+    /**
+     * Returns the {@link StageCycle} of this detection.
+     *
+     * <p>The same cycle, and so the same cursor, is returned to every
+     * caller, so it must only be used from the game thread. Concurrent
+     * evaluation should use a {@link StagePlan#cursor()} of the
+     * {@link #getStagePlan()} instead.</p>
+     *
+     * @return the stage cycle
+     */
     @NonNull StageCycle getStageCycle();
 
+    /**
+     * Returns the {@link StagePlan} compiled from the
+     * {@link StageCycle} of this detection on registration.
+     *
+     * <p>The plan is immutable and may be evaluated from
+     * multiple threads at once.</p>
+     *
+     * @return the stage plan
+     */
+    @NonNull StagePlan getStagePlan();
+
     @NonNull CommentedConfigurationNode getConfiguration();
 
     @NonNull Object getPlugin();
 
+    /**
+     * Returns the priority of this detection, which decides
+     * whether its sequences are run or deferred once the tick
+     * budget has been spent.
+     *
+     * @return the detection priority
+     */
+    @NonNull DetectionPriority getPriority();
+
     interface Factory {
 
         @NonNull Detection create(@NonNull @Assisted("id") String id,
@@ -49,6 +80,12 @@ public interface Detection {
                                   @NonNull @Assisted StageCycle stageCycle,
                                   @NonNull @Assisted Object plugin);
 
+        @NonNull Detection create(@NonNull @Assisted("id") String id,
+                                  @NonNull @Assisted("name") String name,
+                                  @NonNull @Assisted StageCycle stageCycle,
+                                  @NonNull @Assisted Object plugin,
+                                  @NonNull @Assisted DetectionPriority priority);
+
     }
 
 }
@@ -25,7 +25,9 @@
  */
 package com.ichorpowered.guardian.api.detection;
 
+import com.ichorpowered.guardian.api.detection.stage.CombineRule;
 import com.ichorpowered.guardian.api.detection.stage.Stage;
+import com.ichorpowered.guardian.api.detection.stage.StagePlan;
 import com.ichorpowered.guardian.api.detection.stage.StageProcess;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -33,6 +35,37 @@ public interface DetectionBuilder {
 
     <E extends StageProcess, T extends Stage<E>> @NonNull DetectionBuilder stage(@NonNull Class<T> stageType, Class<? extends E>... stageProcesses);
 
+    /**
+     * Sets the {@link CombineRule} for the stage processes of the
+     * {@link Stage} type.
+     *
+     * @param stageType the stage type
+     * @param combineRule the combine rule
+     * @return this builder
+     */
+    @NonNull DetectionBuilder combine(@NonNull Class<? extends Stage<?>> stageType, @NonNull CombineRule combineRule);
+
+    /**
+     * Sets the {@link CombineRule} and the weight threshold for the
+     * stage processes of the {@link Stage} type.
+     *
+     * @param stageType the stage type
+     * @param combineRule the combine rule
+     * @param threshold the weight threshold
+     * @return this builder
+     */
+    @NonNull DetectionBuilder combine(@NonNull Class<? extends Stage<?>> stageType, @NonNull CombineRule combineRule, double threshold);
+
+    @NonNull DetectionBuilder priority(@NonNull DetectionPriority priority);
+
+    /**
+     * Registers the detection provided by the {@link DetectionProvider},
+     * compiling its stages into a {@link StagePlan}.
+     *
+     * @param detectionProvider the detection provider
+     * @param plugin the owning plugin
+     * @return the detection controller
+     */
     @NonNull DetectionController register(@NonNull DetectionProvider detectionProvider, @NonNull Object plugin);
 
 }
@@ -25,6 +25,11 @@
  */
 package com.ichorpowered.guardian.api.detection;
 
+import com.ichorpowered.guardian.api.detection.stage.StageExecutor;
+import com.ichorpowered.guardian.api.detection.stage.StagePipeline;
+import com.ichorpowered.guardian.api.detection.stage.StagePlan;
+import com.ichorpowered.guardian.api.detection.violation.ViolationAggregator;
+import com.ichorpowered.guardian.api.storage.GlobalConfiguration;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Optional;
@@ -37,4 +42,30 @@ public interface DetectionController extends Iterable<Detection> {
 
     @NonNull DetectionController removeDetection(@NonNull String id);
 
+    /**
+     * Returns the {@link StagePipeline} that completed processes
+     * are handed to, so the heuristic and penalty stages are run
+     * off the game thread.
+     *
+     * @return the stage pipeline
+     */
+    @NonNull StagePipeline getStagePipeline();
+
+    /**
+     * Returns the {@link StageExecutor} used to evaluate the
+     * {@link StagePlan} of each detection.
+     *
+     * @return the stage executor
+     */
+    @NonNull StageExecutor getStageExecutor();
+
+    /**
+     * Returns the {@link ViolationAggregator} that coalesces violations
+     * before the penalty stage, using the
+     * {@link GlobalConfiguration#getViolationWindow()}.
+     *
+     * @return the violation aggregator
+     */
+    @NonNull ViolationAggregator getViolationAggregator();
+
 }
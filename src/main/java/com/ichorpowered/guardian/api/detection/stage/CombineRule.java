@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage;
+
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncHeuristic;
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncPenalty;
+
+/**
+ * Represents how the test results of the {@link StageProcess}es
+ * in a {@link Stage} are combined into the result of the stage.
+ *
+ * <p>Evaluation stops as soon as the result of the stage can no
+ * longer change.</p>
+ *
+ * <p>A test that has not completed counts as failing. This is the
+ * case for an {@link AsyncHeuristic} or {@link AsyncPenalty} when
+ * the {@link StageExecutor} evaluates a stage on the calling thread.
+ * Under {@link #ALL} that stage then fails, so a stage gated by an
+ * asynchronous test can only pass through the {@link StagePipeline},
+ * which combines the test once it has completed.</p>
+ */
+public enum CombineRule {
+
+    /**
+     * Passes if every test passes, stopping at the
+     * first failing test.
+     */
+    ALL,
+
+    /**
+     * Passes if any test passes, stopping at the
+     * first passing test.
+     */
+    ANY,
+
+    /**
+     * Passes if the summed weight of the passing tests reaches
+     * the threshold, stopping once it is reached or can no
+     * longer be reached by the remaining tests.
+     */
+    WEIGHTED
+
+}
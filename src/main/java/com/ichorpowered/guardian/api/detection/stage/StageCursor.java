@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Represents a position in a {@link StagePlan} for a
+ * single evaluation.
+ *
+ * <p>A cursor only holds its indexes into the plan, so it is cheap
+ * to create per evaluation. It must not be shared between threads,
+ * while the plan it walks can be.</p>
+ */
+public interface StageCursor {
+
+    /**
+     * Returns the {@link StagePlan} this cursor walks.
+     *
+     * @return the stage plan
+     */
+    @NonNull StagePlan getPlan();
+
+    /**
+     * Returns the {@link Stage} type at the current position,
+     * or {@code null} if the cursor has not started or is exhausted.
+     *
+     * @return the current stage type, or null
+     */
+    @Nullable Class<? extends Stage<?>> getStage();
+
+    /**
+     * Returns the {@link StageProcess} at the current position,
+     * or {@code null} if the cursor has not started or is exhausted.
+     *
+     * @param <T> the stage process type
+     * @return the current stage process, or null
+     */
+    @Nullable <T extends StageProcess> T getStageProcess();
+
+    /**
+     * Returns true if there is another {@link StageProcess}
+     * after the current position.
+     *
+     * @return true if there is a next stage process
+     */
+    boolean hasNext();
+
+    /**
+     * Moves to the first {@link StageProcess} of the next
+     * {@link Stage} type.
+     *
+     * @return true if there was a next stage
+     */
+    boolean nextStage();
+
+    /**
+     * Moves to the next {@link StageProcess} of the current
+     * {@link Stage} type.
+     *
+     * @return true if there was a next stage process in the stage
+     */
+    boolean next();
+
+    /**
+     * Moves this cursor back to before the first {@link Stage},
+     * so it can be reused for another evaluation.
+     */
+    void reset();
+
+}
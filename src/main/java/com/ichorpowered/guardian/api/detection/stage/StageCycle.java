@@ -25,11 +25,27 @@
  */
 package com.ichorpowered.guardian.api.detection.stage;
 
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncHeuristic;
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncPenalty;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Represents the stages of a detection together with a
+ * cursor over them.
+ *
+ * <p>A cycle holds its cursor, so it must be confined to a single
+ * thread. Concurrent evaluation should walk the immutable
+ * {@link StagePlan} with a {@link StageCursor} per evaluation.</p>
+ *
+ * <p>Walking a cycle on the game thread must not run any
+ * {@link AsyncHeuristic} or {@link AsyncPenalty}, which are only
+ * run by the {@link StagePipeline}, and counts each of them as a
+ * failing test when its stage is combined by the
+ * {@link CombineRule}.</p>
+ */
 public interface StageCycle {
 
     @NonNull <T extends StageProcess> Optional<Stage<T>> getStage();
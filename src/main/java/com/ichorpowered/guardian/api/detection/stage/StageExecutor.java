@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage;
+
+import com.ichorpowered.guardian.api.detection.stage.process.AggregatePenalty;
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncHeuristic;
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncPenalty;
+import com.ichorpowered.guardian.api.detection.stage.process.Heuristic;
+import com.ichorpowered.guardian.api.detection.stage.process.Penalty;
+import com.ichorpowered.guardian.api.detection.violation.ViolationAggregator;
+import com.ichorpowered.guardian.api.detection.violation.ViolationSummary;
+import com.ichorpowered.guardian.api.sequence.capture.CaptureRegistry;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents a stateless evaluator of a {@link StagePlan}.
+ *
+ * <p>The executor walks the index ranges of the plan directly,
+ * so a single executor can evaluate any number of plans.</p>
+ *
+ * <p>The executor runs on the calling thread, so it does not run any
+ * {@link AsyncHeuristic} or {@link AsyncPenalty}, which are only
+ * run by the {@link StagePipeline}. Each of them counts as a failing
+ * test when its stage is combined by the {@link CombineRule}.</p>
+ */
+public interface StageExecutor {
+
+    /**
+     * Evaluates the {@link Heuristic}s of the {@link StagePlan} for
+     * the {@link Process} and, if their stage passes, its {@link Penalty}s.
+     *
+     * <p>If violations are aggregated, which is the default path, the
+     * violation is recorded by the {@link ViolationAggregator} for the
+     * {@link CaptureRegistry#getGameReference()} of the process at the
+     * {@link ViolationAggregator#getTick()}. The other penalties are then
+     * only run if the violation opened a new window, so they run at most
+     * once per window for each player and detection, while
+     * {@link AggregatePenalty}s are only run when the window closes.
+     * With a window of {@code 0}, every penalty is run for each
+     * violation.</p>
+     *
+     * <p>The severity recorded is the highest
+     * {@link Heuristic#getSeverity(Process)} of the heuristics that
+     * were evaluated and passed. Evaluation stops as soon as the
+     * {@link CombineRule} decides the stage, so under
+     * {@link CombineRule#ANY} it is the severity of the first passing
+     * heuristic in cost order, and under {@link CombineRule#WEIGHTED}
+     * the highest of the passing heuristics up to the one that
+     * reached the threshold.</p>
+     *
+     * @param stagePlan the stage plan
+     * @param process the completed process
+     * @return true if the heuristics passed and the penalties were run
+     */
+    boolean evaluate(@NonNull StagePlan stagePlan, @NonNull Process process);
+
+    /**
+     * Evaluates the {@link AggregatePenalty}s of the {@link StagePlan}
+     * for the violations coalesced in the {@link ViolationSummary}.
+     *
+     * @param stagePlan the stage plan
+     * @param summary the violation summary
+     * @return true if the combined result of the penalty stage passed
+     */
+    boolean evaluate(@NonNull StagePlan stagePlan, @NonNull ViolationSummary summary);
+
+    /**
+     * Evaluates the {@link StageProcess}es of a single {@link Stage}
+     * type of the {@link StagePlan} for the {@link Process}.
+     *
+     * <p>The processes are combined with the {@link CombineRule} of
+     * the stage in cost order, and evaluation stops as soon as the
+     * result is decided.</p>
+     *
+     * @param stagePlan the stage plan
+     * @param stage the stage type
+     * @param process the completed process
+     * @return true if the combined result of the stage passed
+     */
+    boolean evaluate(@NonNull StagePlan stagePlan, @NonNull Class<? extends Stage<?>> stage, @NonNull Process process);
+
+}
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage;
+
+import com.google.inject.assistedinject.Assisted;
+import com.ichorpowered.guardian.api.detection.Detection;
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncHeuristic;
+import com.ichorpowered.guardian.api.detection.stage.process.AsyncPenalty;
+import com.ichorpowered.guardian.api.detection.stage.process.Heuristic;
+import com.ichorpowered.guardian.api.detection.stage.process.Penalty;
+import com.ichorpowered.guardian.api.sequence.Sequence;
+import com.ichorpowered.guardian.api.sequence.SequencePool;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents a bounded queue of completed {@link Process}es that
+ * is drained by a pool of workers, which run the {@link Heuristic}
+ * and {@link Penalty} stages of their {@link Detection}.
+ *
+ * <p>{@link AsyncHeuristic}s and {@link AsyncPenalty}s are chained
+ * without blocking a worker. When the queue is full, the
+ * {@link OverflowPolicy} decides which process is kept.</p>
+ *
+ * <p>The pipeline takes ownership of each submitted {@link Sequence},
+ * so its pooled {@link Process} cannot be reset or reused while it
+ * is queued or being run. Workers never release a sequence
+ * themselves. Completed sequences are handed back to the submitting
+ * thread through {@link #releaseCompleted()}, so they return to the
+ * stripe of the {@link SequencePool} they were acquired from.</p>
+ */
+public interface StagePipeline {
+
+    /**
+     * Queues the {@link Process} of the completed {@link Sequence} to
+     * be run through the stages of the {@link Detection}. This never
+     * blocks the caller.
+     *
+     * <p>The caller must not release the sequence to its
+     * {@link SequencePool}. Once its stages have been run, or as soon
+     * as it is dropped or merged, it is released by the next call to
+     * {@link #releaseCompleted()}.</p>
+     *
+     * @param detection the detection
+     * @param sequence the completed sequence
+     * @return true if the process was queued or merged, false if it was dropped
+     */
+    boolean submit(@NonNull Detection detection, @NonNull Sequence<?> sequence);
+
+    /**
+     * Releases every submitted {@link Sequence} whose stages have been
+     * run, or that was dropped or merged, to its {@link SequencePool}
+     * on the calling thread.
+     *
+     * <p>This must be called from the thread that submits sequences,
+     * such as once per tick, as the pool is striped per thread.</p>
+     *
+     * @return the number of sequences released
+     */
+    int releaseCompleted();
+
+    /**
+     * Returns the number of queued {@link Process}es.
+     *
+     * @return the queue size
+     */
+    int size();
+
+    /**
+     * Returns the maximum number of queued {@link Process}es.
+     *
+     * @return the queue capacity
+     */
+    int capacity();
+
+    /**
+     * Returns the policy applied when the queue is full.
+     *
+     * @return the overflow policy
+     */
+    @NonNull OverflowPolicy getOverflowPolicy();
+
+    /**
+     * Returns the number of {@link Process}es dropped because
+     * the queue was full.
+     *
+     * @return the dropped count
+     */
+    long getDropped();
+
+    /**
+     * Returns the number of {@link Process}es merged into an
+     * already queued process because the queue was full.
+     *
+     * @return the merged count
+     */
+    long getMerged();
+
+    /**
+     * Stops accepting processes and waits for the queued
+     * processes to be drained.
+     */
+    void shutdown();
+
+    enum OverflowPolicy {
+
+        /**
+         * Drops the submitted process.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Drops the oldest queued process to make room
+         * for the submitted process.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Merges the submitted process into a queued process of
+         * the same player and detection, dropping it if there
+         * is none.
+         */
+        MERGE
+
+    }
+
+    /**
+     * A factory for creating a new {@link StagePipeline}.
+     */
+    interface Factory {
+
+        /**
+         * Creates a new {@link StagePipeline} with the specified
+         * properties.
+         *
+         * @param capacity the queue capacity
+         * @param workers the number of workers
+         * @param overflowPolicy the overflow policy
+         * @return the new stage pipeline
+         */
+        @NonNull StagePipeline create(@Assisted("capacity") int capacity,
+                                      @Assisted("workers") int workers,
+                                      @NonNull @Assisted OverflowPolicy overflowPolicy);
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage;
+
+import com.google.inject.assistedinject.Assisted;
+import com.ichorpowered.guardian.api.detection.DetectionBuilder;
+import com.ichorpowered.guardian.api.detection.stage.process.WeightedProcess;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.List;
+
+/**
+ * Represents a {@link StageCycle} compiled into a flat array of
+ * {@link StageProcess}es, grouped by {@link Stage} type in cycle
+ * order with a precomputed index range for each stage.
+ *
+ * <p>A plan is created once when the detection is registered by the
+ * {@link DetectionBuilder}, so evaluating it does not create
+ * iterators, streams or optionals.</p>
+ *
+ * <p>Within each stage, processes that declare a
+ * {@link WeightedProcess#getCost()} are ordered cheapest first.</p>
+ *
+ * <p>A plan is immutable and safe to evaluate from any number of
+ * threads at once. Positional state is kept in a {@link StageCursor}
+ * for each evaluation.</p>
+ */
+public interface StagePlan {
+
+    /**
+     * Returns the {@link Stage} types of this plan in
+     * cycle order.
+     *
+     * @return an immutable list of stage types
+     */
+    @NonNull List<Class<? extends Stage<?>>> getStages();
+
+    /**
+     * Returns the index of the first {@link StageProcess} of
+     * the {@link Stage} type, or {@code -1} if it is not present.
+     *
+     * @param stage the stage type
+     * @return the first index of the stage
+     */
+    int start(@NonNull Class<? extends Stage<?>> stage);
+
+    /**
+     * Returns the index after the last {@link StageProcess} of
+     * the {@link Stage} type, or {@code -1} if it is not present.
+     *
+     * @param stage the stage type
+     * @return the end index of the stage, exclusive
+     */
+    int end(@NonNull Class<? extends Stage<?>> stage);
+
+    /**
+     * Returns the {@link CombineRule} of the {@link Stage} type,
+     * which is {@link CombineRule#ALL} unless set otherwise.
+     *
+     * @param stage the stage type
+     * @return the combine rule
+     */
+    @NonNull CombineRule getCombineRule(@NonNull Class<? extends Stage<?>> stage);
+
+    /**
+     * Returns the weight threshold of the {@link Stage} type
+     * used by {@link CombineRule#WEIGHTED}.
+     *
+     * @param stage the stage type
+     * @return the weight threshold
+     */
+    double getThreshold(@NonNull Class<? extends Stage<?>> stage);
+
+    /**
+     * Returns the {@link StageProcess} at the index.
+     *
+     * @param index the index
+     * @param <T> the stage process type
+     * @return the stage process
+     */
+    @NonNull <T extends StageProcess> T get(int index);
+
+    /**
+     * Returns the total number of {@link StageProcess}es.
+     *
+     * @return the number of stage processes
+     */
+    int size();
+
+    /**
+     * Returns a new {@link StageCursor} positioned before the
+     * first {@link Stage} of this plan.
+     *
+     * @return the new stage cursor
+     */
+    @NonNull StageCursor cursor();
+
+    /**
+     * A factory for creating a new {@link StagePlan}.
+     */
+    interface Factory {
+
+        /**
+         * Creates a new {@link StagePlan} from the stages
+         * of the {@link StageCycle}.
+         *
+         * @param stageCycle the stage cycle
+         * @return the new stage plan
+         */
+        @NonNull StagePlan create(@NonNull @Assisted StageCycle stageCycle);
+
+    }
+
+}
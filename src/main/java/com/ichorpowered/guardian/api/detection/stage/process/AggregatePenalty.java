@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage.process;
+
+import com.ichorpowered.guardian.api.detection.violation.ViolationAggregator;
+import com.ichorpowered.guardian.api.detection.violation.ViolationSummary;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents a {@link Penalty} that can be run once for the
+ * violations coalesced by the {@link ViolationAggregator}, rather
+ * than once per violation.
+ *
+ * <p>While aggregation is enabled, only {@link #test(ViolationSummary)}
+ * is run for this penalty, and {@link #test(Process)} is only run when
+ * the aggregation window is {@code 0}.</p>
+ */
+public interface AggregatePenalty extends Penalty {
+
+    /**
+     * Tests the violations coalesced by the {@link ViolationAggregator}.
+     *
+     * @param summary the violation summary
+     * @return the test result
+     */
+    boolean test(@NonNull ViolationSummary summary);
+
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage.process;
+
+import com.ichorpowered.guardian.api.detection.stage.CombineRule;
+import com.ichorpowered.guardian.api.detection.stage.StageExecutor;
+import com.ichorpowered.guardian.api.detection.stage.StagePipeline;
+import com.ichorpowered.guardian.api.detection.violation.ViolationAggregator;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Represents a heuristic that completes its test asynchronously,
+ * so it can be run by the {@link StagePipeline} without blocking
+ * the game thread.
+ *
+ * <p>This is not a {@link Heuristic}, so it is never run as one. A
+ * {@link StageExecutor} on the calling thread does not run it and
+ * counts it as a failing test, as described by {@link CombineRule}.</p>
+ */
+public interface AsyncHeuristic extends WeightedProcess {
+
+    /**
+     * Tests the {@link Process} asynchronously.
+     *
+     * @param process the process
+     * @return the stage completing with the test result
+     */
+    @NonNull CompletionStage<Boolean> testAsync(@NonNull Process process);
+
+    /**
+     * Returns the severity of the violation the {@link Process}
+     * was flagged for, recorded by the {@link ViolationAggregator}
+     * when this heuristic passes.
+     *
+     * <p>By default every violation has a severity of {@code 1}.</p>
+     *
+     * @param process the process
+     * @return the severity
+     */
+    default double getSeverity(@NonNull Process process) {
+        return 1;
+    }
+
+}
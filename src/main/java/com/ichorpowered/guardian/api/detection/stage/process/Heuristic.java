@@ -25,12 +25,26 @@
  */
 package com.ichorpowered.guardian.api.detection.stage.process;
 
-import com.ichorpowered.guardian.api.detection.stage.StageProcess;
+import com.ichorpowered.guardian.api.detection.violation.ViolationAggregator;
 import com.ichorpowered.guardian.api.sequence.process.Process;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-public interface Heuristic extends StageProcess {
+public interface Heuristic extends WeightedProcess {
 
     boolean test(@NonNull Process process);
 
+    /**
+     * Returns the severity of the violation the {@link Process}
+     * was flagged for, recorded by the {@link ViolationAggregator}
+     * when this heuristic passes.
+     *
+     * <p>By default every violation has a severity of {@code 1}.</p>
+     *
+     * @param process the process
+     * @return the severity
+     */
+    default double getSeverity(@NonNull Process process) {
+        return 1;
+    }
+
 }
@@ -25,11 +25,10 @@
  */
 package com.ichorpowered.guardian.api.detection.stage.process;
 
-import com.ichorpowered.guardian.api.detection.stage.StageProcess;
 import com.ichorpowered.guardian.api.sequence.process.Process;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-public interface Penalty extends StageProcess {
+public interface Penalty extends WeightedProcess {
 
     boolean test(@NonNull Process process);
 
@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.stage.process;
+
+import com.ichorpowered.guardian.api.detection.stage.CombineRule;
+import com.ichorpowered.guardian.api.detection.stage.StagePlan;
+import com.ichorpowered.guardian.api.detection.stage.StageProcess;
+
+/**
+ * Represents a {@link StageProcess} with a test that can be
+ * ordered by cost and combined with the others in its stage.
+ */
+public interface WeightedProcess extends StageProcess {
+
+    /**
+     * Returns the estimated relative cost of the test. The
+     * {@link StagePlan} orders cheaper processes first.
+     *
+     * @return the estimated cost
+     */
+    default int getCost() {
+        return 0;
+    }
+
+    /**
+     * Returns the weight of a passing test when the stage is
+     * combined with {@link CombineRule#WEIGHTED}.
+     *
+     * @return the weight
+     */
+    default double getWeight() {
+        return 1;
+    }
+
+}
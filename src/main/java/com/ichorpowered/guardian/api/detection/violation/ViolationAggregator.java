@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.violation;
+
+import com.google.inject.assistedinject.Assisted;
+import com.ichorpowered.guardian.api.detection.Detection;
+import com.ichorpowered.guardian.api.detection.stage.process.AggregatePenalty;
+import com.ichorpowered.guardian.api.detection.stage.StageExecutor;
+import com.ichorpowered.guardian.api.detection.stage.StagePipeline;
+import com.ichorpowered.guardian.api.detection.stage.process.Heuristic;
+import com.ichorpowered.guardian.api.detection.stage.process.Penalty;
+import com.ichorpowered.guardian.api.game.GameReference;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Represents the stage between the {@link Heuristic}s and
+ * penalties of a detection, which coalesces the violations
+ * of each player and {@link Detection} over a window of ticks.
+ *
+ * <p>While aggregation is enabled, the {@link StageExecutor} runs the
+ * plain {@link Penalty}s only for the violation that opens a window,
+ * and the {@link AggregatePenalty}s once per closed window with a
+ * {@link ViolationSummary}, rather than once per violation.</p>
+ *
+ * <p>Implementations must be safe for concurrent use, as violations
+ * are recorded by whichever thread completes the heuristic stage,
+ * including the workers of the {@link StagePipeline}, while the game
+ * thread flushes and clears windows.</p>
+ */
+public interface ViolationAggregator {
+
+    /**
+     * Returns the length of the aggregation window. A window
+     * of {@code 0} disables aggregation.
+     *
+     * @return the window in ticks
+     */
+    int getWindow();
+
+    /**
+     * Returns the tick last passed to {@link #flush(long, Consumer)},
+     * at which new violations are recorded.
+     *
+     * @return the current tick
+     */
+    long getTick();
+
+    /**
+     * Records a violation that passed the {@link Heuristic}s
+     * of the {@link Detection}, opening a window for the player
+     * and detection if one is not already open.
+     *
+     * @param detection the detection
+     * @param gameReference the player reference
+     * @param severity the severity of the violation
+     * @param tick the current tick
+     * @return true if the violation opened a new window
+     */
+    boolean record(@NonNull Detection detection, @NonNull GameReference<?> gameReference, double severity, long tick);
+
+    /**
+     * Closes every window that has ended by the specified tick and
+     * passes its {@link ViolationSummary} to the provided
+     * {@link Consumer}.
+     *
+     * @param tick the current tick
+     * @param consumer the summary consumer
+     * @return the number of closed windows
+     */
+    int flush(long tick, @NonNull Consumer<ViolationSummary> consumer);
+
+    /**
+     * Discards the open windows of the player reference.
+     *
+     * @param gameReference the player reference
+     */
+    void clear(@NonNull GameReference<?> gameReference);
+
+    /**
+     * A factory for creating a new {@link ViolationAggregator}.
+     */
+    interface Factory {
+
+        /**
+         * Creates a new {@link ViolationAggregator} with the specified
+         * properties.
+         *
+         * @param window the window in ticks
+         * @return the new violation aggregator
+         */
+        @NonNull ViolationAggregator create(@Assisted int window);
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.detection.violation;
+
+import com.ichorpowered.guardian.api.detection.Detection;
+import com.ichorpowered.guardian.api.detection.stage.StageExecutor;
+import com.ichorpowered.guardian.api.detection.stage.StagePlan;
+import com.ichorpowered.guardian.api.game.GameReference;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents the violations of a player for a {@link Detection}
+ * coalesced over an aggregation window.
+ *
+ * <p>A summary only holds values, never the pooled {@link Process}
+ * of a violation, which may be reused by the time the window
+ * closes.</p>
+ */
+public interface ViolationSummary {
+
+    /**
+     * Returns the player reference the violations belong to.
+     *
+     * @return the player reference
+     */
+    @NonNull GameReference<?> getGameReference();
+
+    /**
+     * Returns the {@link Detection} that flagged the violations.
+     *
+     * @return the detection
+     */
+    @NonNull Detection getDetection();
+
+    /**
+     * Returns the number of violations in the window.
+     *
+     * @return the violation count
+     */
+    int getCount();
+
+    /**
+     * Returns the highest severity of the violations, each recorded
+     * as described by {@link StageExecutor#evaluate(StagePlan, Process)}.
+     *
+     * @return the maximum severity
+     */
+    double getMaxSeverity();
+
+    /**
+     * Returns the mean severity of the violations.
+     *
+     * @return the mean severity
+     */
+    double getMeanSeverity();
+
+    /**
+     * Returns the tick of the first violation.
+     *
+     * @return the first tick
+     */
+    long getFirstTick();
+
+    /**
+     * Returns the tick of the most recent violation.
+     *
+     * @return the last tick
+     */
+    long getLastTick();
+
+}
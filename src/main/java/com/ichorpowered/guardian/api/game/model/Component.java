@@ -36,6 +36,10 @@ import java.util.Optional;
 /**
  * Represents a container for values associated with
  * game object behaviour or data.
+ *
+ * <p>Values for registered {@link GameKey}s are stored in a flat
+ * array indexed by {@link GameKey#getOrdinal()}, only falling back
+ * to a map for keys that have not been registered.</p>
  */
 public interface Component {
 
@@ -54,6 +58,14 @@ public interface Component {
      */
     @NonNull Model getModel();
 
+    /**
+     * Returns the {@link Model#getVersion()} of the last write
+     * to this {@link Component}.
+     *
+     * @return the component version
+     */
+    long getVersion();
+
     /**
      * Gets the value based on the value key. Contains
      * the underlying value if it is present in the storage
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.game.model;
+
+import com.ichorpowered.guardian.api.game.model.value.DoubleGameValue;
+import com.ichorpowered.guardian.api.game.model.value.GameValue;
+import com.ichorpowered.guardian.api.game.model.value.key.GameKey;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Represents the resolved {@link Component}s of a {@link Model}
+ * that contain a {@link GameKey}.
+ *
+ * <p>The path is cached by the model and is invalidated when a
+ * component is created or removed, or when a key is added to or
+ * removed from a component, at which point it will resolve the
+ * containing components again on next access.</p>
+ *
+ * @param <E> the element type
+ */
+public interface ComponentPath<E> {
+
+    /**
+     * Returns the {@link Model} this path was resolved from.
+     *
+     * @return the owning model
+     */
+    @NonNull Model getModel();
+
+    /**
+     * Returns the {@link GameKey} this path was resolved for.
+     *
+     * @return the game key
+     */
+    @NonNull GameKey<E> getGameKey();
+
+    /**
+     * Returns true if the components of the {@link Model} have not
+     * changed since this path was resolved.
+     *
+     * @return true if this path is still valid
+     */
+    boolean isValid();
+
+    /**
+     * Returns the number of {@link Component}s that contain the key.
+     *
+     * @return the number of containing components
+     */
+    int size();
+
+    /**
+     * Returns the {@link GameValue} of the first {@link Component}
+     * containing the key, or {@code null} if none contain it.
+     *
+     * @return the first value, or null
+     */
+    @Nullable GameValue<E> first();
+
+    /**
+     * Passes the {@link GameValue} of each {@link Component} containing
+     * the key to the provided {@link Consumer}.
+     *
+     * @param consumer the value consumer
+     */
+    void forEach(@NonNull Consumer<? super GameValue<E>> consumer);
+
+    /**
+     * Sets the element on each {@link Component} containing the key.
+     *
+     * @param element the element
+     * @return the number of values that were set
+     */
+    int offer(E element);
+
+    /**
+     * Sets the element on each {@link Component} containing the key
+     * through {@link DoubleGameValue#setDouble(double)}, without boxing.
+     *
+     * <p>This may only be used on a path resolved for a
+     * {@code GameKey<Double>}.</p>
+     *
+     * @param element the element
+     * @return the number of values that were set
+     */
+    int offerDouble(double element);
+
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.game.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the limits the {@link ModelRegistry} enforces
+ * when evicting {@link Model}s.
+ *
+ * <p>A limit of {@code 0} disables it.</p>
+ */
+public final class EvictionPolicy {
+
+    /**
+     * A policy that never evicts models.
+     */
+    public static final EvictionPolicy UNBOUNDED = new EvictionPolicy(0, TimeUnit.MILLISECONDS, 0, 0);
+
+    private final long expireAfterIdle;
+    private final int maximumModels;
+    private final long maximumWeight;
+
+    public EvictionPolicy(final long expireAfterIdle, final @NonNull TimeUnit unit, final int maximumModels, final long maximumWeight) {
+        checkArgument(expireAfterIdle >= 0, "Idle expiry must not be negative!");
+        checkArgument(maximumModels >= 0, "Maximum models must not be negative!");
+        checkArgument(maximumWeight >= 0, "Maximum weight must not be negative!");
+
+        this.expireAfterIdle = unit.toNanos(expireAfterIdle);
+        this.maximumModels = maximumModels;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Returns the time after which a {@link Model} that has not
+     * been accessed is evicted.
+     *
+     * @return the idle expiry in nanoseconds
+     */
+    public long getExpireAfterIdle() {
+        return this.expireAfterIdle;
+    }
+
+    /**
+     * Returns the maximum number of {@link Model}s retained.
+     *
+     * @return the maximum model count
+     */
+    public int getMaximumModels() {
+        return this.maximumModels;
+    }
+
+    /**
+     * Returns the maximum sum of {@link Model#getWeight()}
+     * retained.
+     *
+     * @return the maximum weight in bytes
+     */
+    public long getMaximumWeight() {
+        return this.maximumWeight;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) return true;
+        if (!(other instanceof EvictionPolicy)) return false;
+
+        final EvictionPolicy policy = (EvictionPolicy) other;
+        return policy.expireAfterIdle == this.expireAfterIdle
+                && policy.maximumModels == this.maximumModels
+                && policy.maximumWeight == this.maximumWeight;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Long.hashCode(this.expireAfterIdle);
+        hash = 31 * hash + this.maximumModels;
+        return 31 * hash + Long.hashCode(this.maximumWeight);
+    }
+
+}
@@ -34,10 +34,15 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Represents a container for components associated
  * with game object behaviour or data.
+ *
+ * <p>A model is written by a single thread. Other threads should
+ * read it through a {@link ModelSnapshot} rather than through its
+ * {@link Component}s or {@link GameValue}s.</p>
  */
 public interface Model {
 
@@ -52,6 +57,47 @@ public interface Model {
      */
     @NonNull <T> GameReference<T> getGameReference();
 
+    /**
+     * Returns the version of this {@link Model}, which increases
+     * with every write to one of its {@link GameValue}s, every
+     * {@link Component#remove(GameKey)} and every component that
+     * is created, cloned or removed.
+     *
+     * <p>Writes through a retained {@link GameValue} are versioned
+     * the same as writes through {@link #offer(GameKey, Object)}.
+     * Changes made inside a mutable element are only versioned once
+     * the element is set again. This may be called from any
+     * thread.</p>
+     *
+     * @return the model version
+     */
+    long getVersion();
+
+    /**
+     * Returns a {@link ModelSnapshot} of this {@link Model} at its
+     * current {@link #getVersion()}, and publishes it as the
+     * {@link #getLastSnapshot()}.
+     *
+     * <p>The previous snapshot is returned if the model has not
+     * been written since, otherwise only the {@link Component}s
+     * written since the previous snapshot are copied and the rest
+     * are shared with it. This must be called from the thread
+     * that writes the model.</p>
+     *
+     * @return the current snapshot
+     */
+    @NonNull ModelSnapshot snapshot();
+
+    /**
+     * Returns the last {@link ModelSnapshot} published by
+     * {@link #snapshot()}, if present.
+     *
+     * <p>This may be called from any thread.</p>
+     *
+     * @return the last snapshot, if present
+     */
+    @NonNull Optional<ModelSnapshot> getLastSnapshot();
+
     @NonNull <E> List<GameValue<E>> offer(@NonNull GameKey<E> gameKey, E element);
 
     @NonNull <E> List<GameValue<E>> offer(@NonNull Set<String> components, @NonNull GameKey<E> gameKey, E element);
@@ -64,6 +110,31 @@ public interface Model {
 
     @NonNull <E> Optional<GameValue<E>> requestFirst(@NonNull String component, @NonNull GameKey<E> gameKey);
 
+    /**
+     * Passes each {@link GameValue} of the {@link Component}s that
+     * contain the {@link GameKey} to the provided {@link Consumer},
+     * without collecting them.
+     *
+     * @param gameKey the game key
+     * @param consumer the value consumer
+     * @param <E> the element type
+     * @return the number of values passed to the consumer
+     */
+    <E> int forEachValue(@NonNull GameKey<E> gameKey, @NonNull Consumer<? super GameValue<E>> consumer);
+
+    /**
+     * Returns the cached {@link ComponentPath} of the {@link Component}s
+     * that contain the {@link GameKey}, resolving it if it is not present
+     * or has been invalidated by {@link #createComponent(String)},
+     * {@link #removeComponent(String)}, or by a {@link Component}
+     * setting a key it did not contain or removing a key it did.
+     *
+     * @param gameKey the game key
+     * @param <E> the element type
+     * @return the component path
+     */
+    @NonNull <E> ComponentPath<E> resolve(@NonNull GameKey<E> gameKey);
+
     /**
      * Creates a new {@link Component} that matches the class type.
      *
@@ -91,6 +162,22 @@ public interface Model {
      */
     @NonNull Component cloneComponent(@NonNull String id, @NonNull Component component);
 
+    /**
+     * Adds a {@link Component} that shares the elements the specified
+     * {@link Component} has now, overwriting the component that matches
+     * the type.
+     *
+     * <p>Each {@link GameValue} of the sharing component is only created
+     * when it is first read and then holds its own element, so a write
+     * to either component is never seen by the other. Mutable elements
+     * are copied when the value is created.</p>
+     *
+     * @param id the component id
+     * @param component the other component
+     * @return the sharing component
+     */
+    @NonNull Component shareComponent(@NonNull String id, @NonNull Component component);
+
     /**
      * Removes the {@link Component} that matches the type
      * from this frame container.
@@ -115,6 +202,14 @@ public interface Model {
      */
     @NonNull List<Component> getComponents();
 
+    /**
+     * Returns an estimate of the heap retained by this {@link Model},
+     * used to enforce {@link EvictionPolicy#getMaximumWeight()}.
+     *
+     * @return the estimated weight in bytes
+     */
+    long getWeight();
+
     /**
      * A factory for creating a new {@link Model}.
      */
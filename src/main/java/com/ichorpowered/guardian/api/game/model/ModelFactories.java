@@ -25,7 +25,10 @@
  */
 package com.ichorpowered.guardian.api.game.model;
 
+import com.ichorpowered.guardian.api.game.model.value.DoubleGameValue;
 import com.ichorpowered.guardian.api.game.model.value.GameValue;
+import com.ichorpowered.guardian.api.game.model.value.IntGameValue;
+import com.ichorpowered.guardian.api.game.model.value.LongGameValue;
 import com.ichorpowered.guardian.api.game.model.value.key.GameKey;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -37,6 +40,10 @@ public interface ModelFactories {
      * Creates a new physical {@link GameValue} with the
      * specified properties.
      *
+     * <p>Keys with a {@link Double}, {@link Integer} or {@link Long}
+     * element type create a {@link DoubleGameValue}, {@link IntGameValue}
+     * or {@link LongGameValue} respectively.</p>
+     *
      * @param component the owning component
      * @param gameKey the value gameKey
      * @param <E> the value type
@@ -49,4 +56,37 @@ public interface ModelFactories {
                                                     @NonNull GameKey<E> gameKey,
                                                     @NonNull E element);
 
+    /**
+     * Creates a new physical {@link DoubleGameValue} with the
+     * specified properties.
+     *
+     * @param component the owning component
+     * @param gameKey the value gameKey
+     * @return the new value, if present
+     */
+    @NonNull Optional<DoubleGameValue> createDoubleValue(@NonNull Component component,
+                                                         @NonNull GameKey<Double> gameKey);
+
+    /**
+     * Creates a new physical {@link IntGameValue} with the
+     * specified properties.
+     *
+     * @param component the owning component
+     * @param gameKey the value gameKey
+     * @return the new value, if present
+     */
+    @NonNull Optional<IntGameValue> createIntValue(@NonNull Component component,
+                                                   @NonNull GameKey<Integer> gameKey);
+
+    /**
+     * Creates a new physical {@link LongGameValue} with the
+     * specified properties.
+     *
+     * @param component the owning component
+     * @param gameKey the value gameKey
+     * @return the new value, if present
+     */
+    @NonNull Optional<LongGameValue> createLongValue(@NonNull Component component,
+                                                     @NonNull GameKey<Long> gameKey);
+
 }
@@ -29,8 +29,10 @@ import com.ichorpowered.guardian.api.game.GameReference;
 import com.ichorpowered.guardian.api.game.model.value.GameValue;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The frame registry provides a way to virtually bind
@@ -47,6 +49,17 @@ import java.util.Optional;
  *
  * Rebinding frames can be done by unbinding and then binding
  * again.
+ *
+ * <p>Implementations must be safe for concurrent use. Frames are
+ * kept in a {@link ConcurrentMap} keyed by
+ * {@link GameReference#getGameId()}, and lookups through
+ * {@link #get(GameReference)} and {@link #get(String)} must not
+ * block, so that checks running off the main thread may resolve
+ * frames while others are being created or removed.</p>
+ *
+ * <p>Frames are evicted according to the {@link EvictionPolicy}
+ * when they are idle or when the registry is over its limits, so
+ * frames that were never removed do not accumulate.</p>
  */
 public interface ModelRegistry {
 
@@ -72,7 +85,12 @@ public interface ModelRegistry {
 
     /**
      * Get the {@link Model} for the representing game object
-     * reference, if present.
+     * reference, if present, and marks it as accessed.
+     *
+     * <p>The access time only needs to be as precise as the
+     * {@link EvictionPolicy#getExpireAfterIdle()}, so it should be
+     * sampled rather than written on every lookup, keeping shared
+     * writes off this path.</p>
      *
      * @param gameReference the game object reference
      * @param <T> the frame type
@@ -80,10 +98,23 @@ public interface ModelRegistry {
      */
     @NonNull <T extends Model> Optional<T> get(@NonNull GameReference<?> gameReference);
 
+    /**
+     * Get the {@link Model} for the representing game object
+     * id, if present, and marks it as accessed.
+     *
+     * @param gameId the game object id
+     * @param <T> the frame type
+     * @return an existing frame for this game id, if present
+     */
+    @NonNull <T extends Model> Optional<T> get(@NonNull String gameId);
+
     /**
      * Remove the {@link Model} from the representing game object
      * reference and return it, if present.
      *
+     * <p>The {@link ModelEvictionListener}s are notified with
+     * {@link EvictionCause#EXPLICIT}.</p>
+     *
      * @param gameReference the game object reference
      * @param <T> the frame type
      * @return an existing frame for this game referenced that has been removed, if present
@@ -94,6 +125,8 @@ public interface ModelRegistry {
      * Clones the {@link GameValue}s from the other {@link Model} and adds
      * them to a new one representing the game object reference.
      *
+     * <p>This is equivalent to cloning with {@link CloneMode#COPY}.</p>
+     *
      * @param gameReference the game object reference
      * @param otherFrame the other frame
      * @param <T> the frame type
@@ -101,4 +134,117 @@ public interface ModelRegistry {
      */
     @NonNull <T extends Model> T clone(@NonNull String id, @NonNull GameReference<?> gameReference, @NonNull T otherFrame);
 
+    /**
+     * Clones the {@link GameValue}s from the other {@link Model} and adds
+     * them to a new one representing the game object reference, using
+     * the {@link CloneMode}.
+     *
+     * @param gameReference the game object reference
+     * @param otherFrame the other frame
+     * @param mode the clone mode
+     * @param <T> the frame type
+     * @return a new or existing frame for this game referenced with overwriting other frame values
+     */
+    @NonNull <T extends Model> T clone(@NonNull String id, @NonNull GameReference<?> gameReference, @NonNull T otherFrame,
+                                       @NonNull CloneMode mode);
+
+    /**
+     * Clones the {@link GameValue}s from the other {@link Model} and adds
+     * them to a new one for each of the game object references, using
+     * the {@link CloneMode}.
+     *
+     * <p>The other frame is resolved once for the whole batch, which
+     * makes this cheaper than cloning each reference separately.</p>
+     *
+     * @param gameReferences the game object references
+     * @param otherFrame the other frame
+     * @param mode the clone mode
+     * @param <T> the frame type
+     * @return the new or existing frames, in the order of the game references
+     */
+    @NonNull <T extends Model> List<T> cloneAll(@NonNull String id, @NonNull Collection<? extends GameReference<?>> gameReferences,
+                                                @NonNull T otherFrame, @NonNull CloneMode mode);
+
+    /**
+     * Returns the number of {@link Model}s in this registry.
+     *
+     * <p>This is only an estimate while frames are concurrently
+     * being created or removed.</p>
+     *
+     * @return the number of frames
+     */
+    int size();
+
+    /**
+     * Returns the sum of {@link Model#getWeight()} of the
+     * {@link Model}s in this registry.
+     *
+     * @return the estimated weight in bytes
+     */
+    long getWeight();
+
+    /**
+     * Returns the {@link EvictionPolicy} of this registry.
+     *
+     * @return the eviction policy
+     */
+    @NonNull EvictionPolicy getEvictionPolicy();
+
+    /**
+     * Sets the {@link EvictionPolicy} of this registry, which
+     * is enforced from the next {@link #evict()}.
+     *
+     * @param policy the eviction policy
+     */
+    void setEvictionPolicy(@NonNull EvictionPolicy policy);
+
+    /**
+     * Adds a {@link ModelEvictionListener} to this registry.
+     *
+     * @param listener the eviction listener
+     */
+    void addEvictionListener(@NonNull ModelEvictionListener listener);
+
+    /**
+     * Removes a {@link ModelEvictionListener} from this registry.
+     *
+     * @param listener the eviction listener
+     */
+    void removeEvictionListener(@NonNull ModelEvictionListener listener);
+
+    /**
+     * Evicts the {@link Model}s that have been idle longer than the
+     * {@link EvictionPolicy#getExpireAfterIdle()}, then the least
+     * recently accessed models until the registry is within the
+     * {@link EvictionPolicy#getMaximumModels()} and
+     * {@link EvictionPolicy#getMaximumWeight()}.
+     *
+     * <p>This is expected to be called periodically, such as once a
+     * second.</p>
+     *
+     * @return the number of models evicted
+     */
+    int evict();
+
+    /**
+     * Represents how the {@link Component}s of the other frame are
+     * cloned.
+     */
+    enum CloneMode {
+
+        /**
+         * Copies every {@link GameValue} of the other frame.
+         */
+        COPY,
+
+        /**
+         * Shares the default {@link Component}s of the other frame
+         * through {@link Model#shareComponent(String, Component)},
+         * creating each {@link GameValue} only when it is first read,
+         * and copies every other component.
+         */
+        SHARED
+
+    }
+
 }
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.game.model;
+
+import com.ichorpowered.guardian.api.game.model.value.GameValue;
+import com.ichorpowered.guardian.api.game.model.value.key.GameKey;
+import com.ichorpowered.guardian.api.game.model.value.table.IdDoubleTable;
+import com.ichorpowered.guardian.api.game.model.value.table.NamedDoubleTable;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents an immutable view of the elements of a {@link Model}
+ * at a given {@link Model#getVersion()}.
+ *
+ * <p>A snapshot holds the elements rather than the {@link GameValue}s,
+ * so it may be read from any thread without locking while the
+ * model continues to be written. Mutable elements are copied or
+ * frozen when the snapshot is taken: a {@link NamedDoubleTable} or
+ * {@link IdDoubleTable} is copied, and a {@link java.util.List},
+ * {@link java.util.Set} or {@link java.util.Map} is replaced by an
+ * immutable copy. Readers must not modify a copied table.</p>
+ */
+public interface ModelSnapshot {
+
+    /**
+     * Returns the {@link Model} this snapshot was taken from.
+     *
+     * @return the model
+     */
+    @NonNull Model getModel();
+
+    /**
+     * Returns the version of the {@link Model} this snapshot
+     * was taken at.
+     *
+     * @return the model version
+     */
+    long getVersion();
+
+    /**
+     * Returns {@code true} if the {@link Model} has not been
+     * written since this snapshot was taken.
+     *
+     * @return true if this snapshot is current
+     */
+    default boolean isCurrent() {
+        return this.getVersion() == this.getModel().getVersion();
+    }
+
+    /**
+     * Returns the element of the first {@link Component} that
+     * contains the {@link GameKey}, if present.
+     *
+     * @param gameKey the game key
+     * @param <E> the element type
+     * @return the element, if present
+     */
+    @NonNull <E> Optional<E> get(@NonNull GameKey<E> gameKey);
+
+    /**
+     * Returns the element of the {@link GameKey} in the
+     * {@link Component}, if present.
+     *
+     * @param component the component id
+     * @param gameKey the game key
+     * @param <E> the element type
+     * @return the element, if present
+     */
+    @NonNull <E> Optional<E> get(@NonNull String component, @NonNull GameKey<E> gameKey);
+
+    /**
+     * Returns the element of the first {@link Component} that
+     * contains the {@link GameKey} without boxing, or the default
+     * value if it is not present.
+     *
+     * @param gameKey the game key
+     * @param defaultValue the default value
+     * @return the element or default value
+     */
+    double getDouble(@NonNull GameKey<Double> gameKey, double defaultValue);
+
+    /**
+     * Returns the element of the first {@link Component} that
+     * contains the {@link GameKey} without boxing, or the default
+     * value if it is not present.
+     *
+     * @param gameKey the game key
+     * @param defaultValue the default value
+     * @return the element or default value
+     */
+    int getInt(@NonNull GameKey<Integer> gameKey, int defaultValue);
+
+    /**
+     * Returns the element of the first {@link Component} that
+     * contains the {@link GameKey} without boxing, or the default
+     * value if it is not present.
+     *
+     * @param gameKey the game key
+     * @param defaultValue the default value
+     * @return the element or default value
+     */
+    long getLong(@NonNull GameKey<Long> gameKey, long defaultValue);
+
+    /**
+     * Returns an immutable {@link List} of the ids of the
+     * {@link Component}s in this snapshot.
+     *
+     * @return the component ids
+     */
+    @NonNull List<String> getComponents();
+
+}
@@ -98,6 +98,9 @@ public interface GameValue<E> {
          * Creates a new {@link GameValue} with the specified
          * properties.
          *
+         * <p>If the element type of the {@link GameKey} is a {@link Double},
+         * {@link Integer} or {@link Long}, the new value will be the matching
+         * {@link DoubleGameValue}, {@link IntGameValue} or {@link LongGameValue}.</p>
          *
          * @return the new value
          */
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.game.model.value;
+
+import com.google.inject.assistedinject.Assisted;
+import com.ichorpowered.guardian.api.game.model.value.key.GameKey;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents a containable {@code int} value, which can be
+ * read and updated without boxing the element.
+ */
+public interface IntGameValue extends GameValue<Integer> {
+
+    /**
+     * Returns the contained value. If that value is not
+     * present, the {@link IntGameValue#getDefaultAsInt()} value is returned.
+     *
+     * @return the contained value
+     */
+    int getAsInt();
+
+    /**
+     * Returns the default value.
+     *
+     * @return the default value
+     */
+    int getDefaultAsInt();
+
+    /**
+     * Sets the underlying value to the provided {@code value}.
+     *
+     * @param value the value to add
+     * @return this value container
+     */
+    @NonNull IntGameValue setInt(int value);
+
+    /**
+     * Attempts to transform the underlying value based on the provided
+     * {@link IntUnaryOperator} such that the result of {@link IntUnaryOperator#applyAsInt(int)}
+     * will replace the underlying value.
+     *
+     * @param operator the operator to apply on the existing value
+     * @return this value container
+     */
+    @NonNull IntGameValue transformInt(@NonNull IntUnaryOperator operator);
+
+    /**
+     * A factory for creating a new {@link IntGameValue}.
+     */
+    interface Factory {
+
+        /**
+         * Creates a new {@link IntGameValue} with the specified
+         * properties.
+         *
+         * @param gameKey the value key
+         * @param defaultElement the default element
+         * @return the new value
+         */
+        @NonNull IntGameValue create(@NonNull @Assisted("gameKey") GameKey<Integer> gameKey,
+                                     @Assisted("defaultElement") int defaultElement);
+
+    }
+
+}
@@ -40,6 +40,18 @@ public interface GameKey<E> {
 
     @NonNull GameStores getValueStore();
 
+    /**
+     * Returns the dense ordinal assigned to this key when it was
+     * registered in the {@link GameKeyRegistry}, or {@code -1} if
+     * it has not been registered.
+     *
+     * <p>Ordinals are assigned sequentially from {@code 0}, so they
+     * can be used directly as an index into flat value storage.</p>
+     *
+     * @return the key ordinal
+     */
+    int getOrdinal();
+
     interface Factory {
 
         @NonNull GameKey create(@NonNull @Assisted String key,
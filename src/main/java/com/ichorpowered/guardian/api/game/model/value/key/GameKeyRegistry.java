@@ -36,6 +36,33 @@ public interface GameKeyRegistry {
 
     @NonNull <E> Optional<GameKey<E>> get(@NonNull String id, @NonNull TypeToken<E> typeToken);
 
+    /**
+     * Returns the {@link GameKey} that was assigned the specified
+     * ordinal on registration.
+     *
+     * @param ordinal the key ordinal
+     * @return the game key, if present
+     */
+    @NonNull Optional<GameKey<?>> get(int ordinal);
+
+    /**
+     * Registers the {@link GameKey} and assigns it the next
+     * dense ordinal, available from {@link GameKey#getOrdinal()}.
+     *
+     * <p>Registering a key that is already registered keeps
+     * its existing ordinal.</p>
+     *
+     * @param gameKey the game key
+     * @return this registry
+     */
     @NonNull GameKeyRegistry register(@NonNull GameKey<?> gameKey);
 
+    /**
+     * Returns the number of registered {@link GameKey}s, which is
+     * one greater than the highest assigned ordinal.
+     *
+     * @return the number of registered keys
+     */
+    int size();
+
 }
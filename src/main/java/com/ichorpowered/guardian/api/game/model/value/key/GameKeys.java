@@ -25,10 +25,9 @@
  */
 package com.ichorpowered.guardian.api.game.model.value.key;
 
+import com.ichorpowered.guardian.api.game.model.value.table.NamedDoubleTable;
 import org.spongepowered.api.util.generator.dummy.DummyObjectProvider;
 
-import java.util.Map;
-
 @SuppressWarnings({"unused", "WeakerAccess"})
 public final class GameKeys {
 
@@ -44,6 +43,8 @@ public final class GameKeys {
 
     public static GameKey<Double> AVERAGE_PING = DummyObjectProvider.createExtendedFor(GameKey.class, "average_ping");
 
+    public static GameKey<Double> AVERAGE_TICK_RATE = DummyObjectProvider.createExtendedFor(GameKey.class, "average_tick_rate");
+
     // Horizontal Movement
 
     public static GameKey<Double> WALK_SPEED = DummyObjectProvider.createExtendedFor(GameKey.class, "walk_speed");
@@ -62,14 +63,14 @@ public final class GameKeys {
 
     // Material Movement
 
-    public static GameKey<Map<String, Double>> MATTER_HORIZONTAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "matter_horizontal_distance");
+    public static GameKey<NamedDoubleTable> MATTER_HORIZONTAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "matter_horizontal_distance");
 
-    public static GameKey<Map<String, Double>> MATERIAL_HORIZONTAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "material_horizontal_distance");
+    public static GameKey<NamedDoubleTable> MATERIAL_HORIZONTAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "material_horizontal_distance");
 
     // Potion Movement
 
-    public static GameKey<Map<String, Double>> EFFECT_HORIZONTAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "effect_horizontal_distance");
+    public static GameKey<NamedDoubleTable> EFFECT_HORIZONTAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "effect_horizontal_distance");
 
-    public static GameKey<Map<String, Double>> EFFECT_VERTICAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "effect_vertical_distance");
+    public static GameKey<NamedDoubleTable> EFFECT_VERTICAL_DISTANCE = DummyObjectProvider.createExtendedFor(GameKey.class, "effect_vertical_distance");
 
 }
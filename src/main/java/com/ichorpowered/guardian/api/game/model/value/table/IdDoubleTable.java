@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.game.model.value.table;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * A table of pre-interned ids to primitive doubles.
+ *
+ * <p>Ids are expected to be small and dense, such as the ordinal a
+ * material or effect is assigned when it is registered, so values
+ * are addressed directly by id and a lookup is a bounds check and
+ * an array read.</p>
+ *
+ * <p>This table is not thread-safe, it is expected to be populated
+ * when the configuration is loaded and only read afterwards.</p>
+ */
+public final class IdDoubleTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] values;
+    private long[] present;
+    private int size;
+
+    public IdDoubleTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IdDoubleTable(final int capacity) {
+        checkArgument(capacity >= 0, "Capacity must not be negative!");
+
+        this.values = new double[capacity];
+        this.present = new long[(capacity + 63) >>> 6];
+    }
+
+    /**
+     * Returns the value for the id, or the default value if
+     * it is not present.
+     *
+     * @param id the id
+     * @param defaultValue the default value
+     * @return the value
+     */
+    public double get(final int id, final double defaultValue) {
+        return this.contains(id) ? this.values[id] : defaultValue;
+    }
+
+    /**
+     * Returns {@code true} if the id is present in this table.
+     *
+     * @param id the id
+     * @return true if the id is present
+     */
+    public boolean contains(final int id) {
+        return id >= 0 && id < this.values.length && (this.present[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Sets the value for the id.
+     *
+     * @param id the id
+     * @param value the value
+     */
+    public void put(final int id, final double value) {
+        checkArgument(id >= 0, "Id must not be negative!");
+
+        if (id >= this.values.length) this.resize(Math.max(id + 1, this.values.length << 1));
+
+        final long mask = 1L << id;
+        if ((this.present[id >>> 6] & mask) == 0) {
+            this.present[id >>> 6] |= mask;
+            this.size++;
+        }
+
+        this.values[id] = value;
+    }
+
+    /**
+     * Removes the id from this table.
+     *
+     * @param id the id
+     * @return true if the id was present
+     */
+    public boolean remove(final int id) {
+        if (!this.contains(id)) return false;
+
+        this.present[id >>> 6] &= ~(1L << id);
+        this.values[id] = 0;
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Removes every entry from this table.
+     */
+    public void clear() {
+        Arrays.fill(this.present, 0);
+        Arrays.fill(this.values, 0);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of entries in this table.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns {@code true} if this table has no entries.
+     *
+     * @return true if this table is empty
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Performs the action for each entry in this table, in
+     * ascending order of id.
+     *
+     * @param action the action
+     */
+    public void forEach(final @NonNull IdDoubleConsumer action) {
+        for (int word = 0; word < this.present.length; word++) {
+            long bits = this.present[word];
+            while (bits != 0) {
+                final int id = (word << 6) + Long.numberOfTrailingZeros(bits);
+                action.accept(id, this.values[id]);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns a function that reads this table, returning the
+     * default value for absent ids.
+     *
+     * @param defaultValue the default value
+     * @return a lookup function
+     */
+    public @NonNull IntToDoubleFunction asFunction(final double defaultValue) {
+        return id -> this.get(id, defaultValue);
+    }
+
+    /**
+     * Returns a copy of this table.
+     *
+     * @return a new table
+     */
+    public @NonNull IdDoubleTable copy() {
+        final IdDoubleTable table = new IdDoubleTable(0);
+        table.values = this.values.clone();
+        table.present = this.present.clone();
+        table.size = this.size;
+        return table;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) return true;
+        if (!(other instanceof IdDoubleTable)) return false;
+
+        final IdDoubleTable table = (IdDoubleTable) other;
+        if (table.size != this.size) return false;
+
+        final int words = Math.max(this.present.length, table.present.length);
+        for (int word = 0; word < words; word++) {
+            final long bits = word < this.present.length ? this.present[word] : 0;
+            if (bits != (word < table.present.length ? table.present[word] : 0)) return false;
+        }
+
+        for (int id = 0; id < this.values.length; id++) {
+            if (this.contains(id) && Double.doubleToLongBits(this.values[id]) != Double.doubleToLongBits(table.values[id])) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int id = 0; id < this.values.length; id++) {
+            if (this.contains(id)) hash += id ^ Double.hashCode(this.values[id]);
+        }
+        return hash;
+    }
+
+    private void resize(final int capacity) {
+        this.values = Arrays.copyOf(this.values, capacity);
+        this.present = Arrays.copyOf(this.present, (capacity + 63) >>> 6);
+    }
+
+    /**
+     * Represents an operation that accepts an id and a double value.
+     */
+    @FunctionalInterface
+    public interface IdDoubleConsumer {
+
+        /**
+         * Performs this operation on the arguments.
+         *
+         * @param id the id
+         * @param value the value
+         */
+        void accept(int id, double value);
+
+    }
+
+}
@@ -0,0 +1,336 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.game.model.value.table;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * An open addressing table of names to primitive doubles.
+ *
+ * <p>Names are interned when they are inserted, so a lookup with
+ * a constant or otherwise interned name resolves on a reference
+ * comparison without boxing the value or calling
+ * {@link String#equals(Object)}. Other names fall back to comparing
+ * the cached hash and then the contents.</p>
+ *
+ * <p>This table is not thread-safe, it is expected to be populated
+ * when the configuration is loaded and only read afterwards.</p>
+ */
+public final class NamedDoubleTable {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private String[] names;
+    private int[] hashes;
+    private double[] values;
+    private int size;
+
+    public NamedDoubleTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public NamedDoubleTable(final int expectedSize) {
+        checkArgument(expectedSize >= 0, "Expected size must not be negative!");
+
+        this.allocate(NamedDoubleTable.tableSize(expectedSize));
+    }
+
+    /**
+     * Returns a new {@link NamedDoubleTable} containing the entries
+     * of the {@link Map}.
+     *
+     * @param map the map to copy
+     * @return a new table
+     */
+    public static @NonNull NamedDoubleTable of(final @NonNull Map<String, ? extends Number> map) {
+        final NamedDoubleTable table = new NamedDoubleTable(map.size());
+        map.forEach((name, value) -> table.put(name, value.doubleValue()));
+        return table;
+    }
+
+    /**
+     * Returns the value for the name, or the default value if
+     * it is not present.
+     *
+     * @param name the name
+     * @param defaultValue the default value
+     * @return the value
+     */
+    public double get(final @NonNull String name, final double defaultValue) {
+        final int index = this.indexOf(name);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    /**
+     * Returns {@code true} if the name is present in this table.
+     *
+     * @param name the name
+     * @return true if the name is present
+     */
+    public boolean contains(final @NonNull String name) {
+        return this.indexOf(name) >= 0;
+    }
+
+    /**
+     * Sets the value for the name, interning the name if it
+     * is not already present.
+     *
+     * @param name the name
+     * @param value the value
+     */
+    public void put(final @NonNull String name, final double value) {
+        checkNotNull(name);
+
+        final int hash = NamedDoubleTable.mix(name.hashCode());
+        final int mask = this.names.length - 1;
+
+        int index = hash & mask;
+        String current;
+        while ((current = this.names[index]) != null) {
+            if (current == name || (this.hashes[index] == hash && current.equals(name))) {
+                this.values[index] = value;
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        this.names[index] = name.intern();
+        this.hashes[index] = hash;
+        this.values[index] = value;
+
+        if (++this.size > this.names.length >> 1) this.resize(this.names.length << 1);
+    }
+
+    /**
+     * Removes the name from this table.
+     *
+     * @param name the name
+     * @return true if the name was present
+     */
+    public boolean remove(final @NonNull String name) {
+        int index = this.indexOf(name);
+        if (index < 0) return false;
+
+        final int mask = this.names.length - 1;
+
+        // Shift the following entries of the probe sequence back, so that
+        // lookups never need to skip over a removed slot.
+
+        int next = (index + 1) & mask;
+        while (this.names[next] != null) {
+            final int home = this.hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                this.names[index] = this.names[next];
+                this.hashes[index] = this.hashes[next];
+                this.values[index] = this.values[next];
+                index = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+
+        this.names[index] = null;
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Removes every entry from this table.
+     */
+    public void clear() {
+        for (int i = 0; i < this.names.length; i++) this.names[i] = null;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of entries in this table.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns {@code true} if this table has no entries.
+     *
+     * @return true if this table is empty
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Performs the action for each entry in this table, in no
+     * particular order.
+     *
+     * @param action the action
+     */
+    public void forEach(final @NonNull ObjDoubleConsumer<String> action) {
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i] != null) action.accept(this.names[i], this.values[i]);
+        }
+    }
+
+    /**
+     * Returns a new {@link IdDoubleTable} containing the entries
+     * of this table, keyed by the id the resolver returns for each
+     * name.
+     *
+     * <p>Names that resolve to a negative id are skipped.</p>
+     *
+     * @param resolver the id resolver
+     * @return a new id table
+     */
+    public @NonNull IdDoubleTable toIdTable(final @NonNull ToIntFunction<String> resolver) {
+        final IdDoubleTable table = new IdDoubleTable();
+        this.forEach((name, value) -> {
+            final int id = resolver.applyAsInt(name);
+            if (id >= 0) table.put(id, value);
+        });
+        return table;
+    }
+
+    /**
+     * Returns an immutable {@link Map} containing the entries
+     * of this table.
+     *
+     * @return a new map
+     */
+    public @NonNull Map<String, Double> toMap() {
+        final ImmutableMap.Builder<String, Double> builder = ImmutableMap.builder();
+        this.forEach(builder::put);
+        return builder.build();
+    }
+
+    /**
+     * Returns a copy of this table.
+     *
+     * @return a new table
+     */
+    public @NonNull NamedDoubleTable copy() {
+        final NamedDoubleTable table = new NamedDoubleTable(0);
+        table.names = this.names.clone();
+        table.hashes = this.hashes.clone();
+        table.values = this.values.clone();
+        table.size = this.size;
+        return table;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) return true;
+        if (!(other instanceof NamedDoubleTable)) return false;
+
+        final NamedDoubleTable table = (NamedDoubleTable) other;
+        if (table.size != this.size) return false;
+
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i] == null) continue;
+
+            final int index = table.indexOf(this.names[i]);
+            if (index < 0 || Double.doubleToLongBits(table.values[index]) != Double.doubleToLongBits(this.values[i])) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i] != null) hash += this.names[i].hashCode() ^ Double.hashCode(this.values[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return this.toMap().toString();
+    }
+
+    private int indexOf(final String name) {
+        final int hash = NamedDoubleTable.mix(name.hashCode());
+        final int mask = this.names.length - 1;
+
+        int index = hash & mask;
+        String current;
+        while ((current = this.names[index]) != null) {
+            if (current == name || (this.hashes[index] == hash && current.equals(name))) return index;
+
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private void allocate(final int capacity) {
+        this.names = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new double[capacity];
+    }
+
+    private void resize(final int capacity) {
+        final String[] names = this.names;
+        final int[] hashes = this.hashes;
+        final double[] values = this.values;
+
+        this.allocate(capacity);
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == null) continue;
+
+            int index = hashes[i] & mask;
+            while (this.names[index] != null) index = (index + 1) & mask;
+
+            this.names[index] = names[i];
+            this.hashes[index] = hashes[i];
+            this.values[index] = values[i];
+        }
+    }
+
+    private static int tableSize(final int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity >> 1 < expectedSize) capacity <<= 1;
+        return capacity;
+    }
+
+    private static int mix(final int hash) {
+        final int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.game.model.value.table;
+
+import com.google.common.reflect.TypeToken;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
+import ninja.leaping.configurate.objectmapping.serialize.TypeSerializer;
+import ninja.leaping.configurate.objectmapping.serialize.TypeSerializerCollection;
+
+import java.util.Map;
+
+/**
+ * Reads a {@link NamedDoubleTable} from the child nodes of a
+ * mapping node, reading each value with
+ * {@link ConfigurationNode#getDouble(double)} instead of building
+ * the {@code Map<String, Double>} the default map serializer would.
+ */
+public final class NamedDoubleTableSerializer implements TypeSerializer<NamedDoubleTable> {
+
+    public static final TypeToken<NamedDoubleTable> TYPE = TypeToken.of(NamedDoubleTable.class);
+
+    /**
+     * Registers a {@link NamedDoubleTableSerializer} with the
+     * {@link TypeSerializerCollection}.
+     *
+     * @param serializers the serializer collection
+     * @return the serializer collection
+     */
+    public static TypeSerializerCollection register(final TypeSerializerCollection serializers) {
+        return serializers.registerType(TYPE, new NamedDoubleTableSerializer());
+    }
+
+    @Override
+    public NamedDoubleTable deserialize(final TypeToken<?> type, final ConfigurationNode value) throws ObjectMappingException {
+        if (value.isVirtual() || value.getValue() == null) return new NamedDoubleTable();
+        if (!value.hasMapChildren()) throw new ObjectMappingException("Expected a mapping of names to numbers at " + value.getKey() + "!");
+
+        final Map<Object, ? extends ConfigurationNode> children = value.getChildrenMap();
+        final NamedDoubleTable table = new NamedDoubleTable(children.size());
+
+        for (final Map.Entry<Object, ? extends ConfigurationNode> entry : children.entrySet()) {
+            final double child = entry.getValue().getDouble(Double.NaN);
+            if (Double.isNaN(child)) {
+                throw new ObjectMappingException("Expected a number for " + entry.getKey() + " but found " + entry.getValue().getValue() + "!");
+            }
+
+            table.put(entry.getKey().toString(), child);
+        }
+
+        return table;
+    }
+
+    @Override
+    public void serialize(final TypeToken<?> type, final NamedDoubleTable table, final ConfigurationNode value) {
+        value.setValue(null);
+        if (table != null) table.forEach((name, entry) -> value.getNode(name).setValue(entry));
+    }
+
+}
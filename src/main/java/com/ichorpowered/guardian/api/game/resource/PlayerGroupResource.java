@@ -32,6 +32,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PlayerGroupResource extends Iterable<Map.Entry<Integer, GameReference<?>>> {
 
@@ -49,6 +50,14 @@ public interface PlayerGroupResource extends Iterable<Map.Entry<Integer, GameRef
 
     @NonNull Collection<GameReference<?>> getGroup(int group);
 
+    /**
+     * Returns the numbers of the groups that currently
+     * contain at least one player.
+     *
+     * @return the group numbers
+     */
+    @NonNull Set<Integer> getGroups();
+
     void clear();
 
     interface Factory {
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.metric;
+
+import com.ichorpowered.guardian.api.detection.stage.process.Check;
+import com.ichorpowered.guardian.api.sequence.Sequence;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents the sequence counters and observer latency
+ * of a {@link Check}.
+ */
+public interface CheckMetrics {
+
+    /**
+     * Returns the type of {@link Check} these metrics
+     * belong to.
+     *
+     * @return the check type
+     */
+    @NonNull Class<?> getCheckType();
+
+    /**
+     * Records that a {@link Sequence} was created.
+     */
+    void recordCreated();
+
+    /**
+     * Records that a {@link Sequence} observed an event,
+     * taking the specified time.
+     *
+     * @param nanos the observe time in nanoseconds
+     */
+    void recordObserved(long nanos);
+
+    /**
+     * Records that a {@link Sequence} ended in the
+     * specified {@link Process.State}.
+     *
+     * @param state the final process state
+     */
+    void recordState(Process.@NonNull State state);
+
+    /**
+     * Returns the number of {@link Sequence}s created.
+     *
+     * @return the created count
+     */
+    long getCreated();
+
+    /**
+     * Returns the number of events observed.
+     *
+     * @return the observed count
+     */
+    long getObserved();
+
+    /**
+     * Returns the number of {@link Sequence}s that ended in
+     * the specified {@link Process.State}.
+     *
+     * @param state the process state
+     * @return the count for the state
+     */
+    long getCount(Process.@NonNull State state);
+
+    /**
+     * Returns the latency of each {@link Sequence#tryObserve(Object)}.
+     *
+     * @return the observe latency histogram
+     */
+    @NonNull LatencyHistogram getObserveLatency();
+
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.metric;
+
+import com.ichorpowered.guardian.api.detection.Detection;
+import com.ichorpowered.guardian.api.detection.stage.process.Check;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+
+/**
+ * Represents the metrics of a {@link Detection}, recorded
+ * separately for each of its {@link Check}s.
+ */
+public interface DetectionMetrics {
+
+    /**
+     * Returns the id of the {@link Detection} these
+     * metrics belong to.
+     *
+     * @return the detection id
+     */
+    @NonNull String getDetectionId();
+
+    /**
+     * Returns the {@link CheckMetrics} for the {@link Check},
+     * creating them if they are not present.
+     *
+     * @param check the check
+     * @return the check metrics
+     */
+    @NonNull CheckMetrics getCheck(@NonNull Check<?> check);
+
+    /**
+     * Returns an immutable {@link Collection} of the
+     * {@link CheckMetrics} of every check.
+     *
+     * @return the check metrics
+     */
+    @NonNull Collection<CheckMetrics> getChecks();
+
+}
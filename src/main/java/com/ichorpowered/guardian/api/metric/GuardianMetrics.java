@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.metric;
+
+import com.ichorpowered.guardian.api.detection.Detection;
+import com.ichorpowered.guardian.api.sequence.SequenceController;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Represents the hot path instrumentation of detections
+ * and their sequences.
+ *
+ * <p>Recording is allocation free. Counters are striped to avoid
+ * contention between threads and latencies are recorded into
+ * preallocated histograms, so the metrics can be exported while
+ * detections are running.</p>
+ */
+public interface GuardianMetrics {
+
+    /**
+     * Returns the {@link DetectionMetrics} for the {@link Detection},
+     * creating them if they are not present.
+     *
+     * @param detection the detection
+     * @return the detection metrics
+     */
+    @NonNull DetectionMetrics getDetection(@NonNull Detection detection);
+
+    /**
+     * Returns the {@link DetectionMetrics} for the detection id,
+     * if present.
+     *
+     * @param id the detection id
+     * @return the detection metrics, if present
+     */
+    @NonNull Optional<DetectionMetrics> getDetection(@NonNull String id);
+
+    /**
+     * Returns an immutable {@link Collection} of the
+     * {@link DetectionMetrics} of every detection.
+     *
+     * @return the detection metrics
+     */
+    @NonNull Collection<DetectionMetrics> getDetections();
+
+    /**
+     * Returns the latency of each scheduler update invoked
+     * by the {@link SequenceController}.
+     *
+     * @return the scheduler latency histogram
+     */
+    @NonNull LatencyHistogram getSchedulerLatency();
+
+    /**
+     * Resets every counter and histogram.
+     */
+    void reset();
+
+}
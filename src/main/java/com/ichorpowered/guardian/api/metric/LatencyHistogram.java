@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.metric;
+
+/**
+ * Represents a histogram of latencies in nanoseconds.
+ *
+ * <p>Buckets are preallocated on a log-linear scale with bounded
+ * relative error, in the style of an HDR histogram, so recording a
+ * value never allocates.</p>
+ */
+public interface LatencyHistogram {
+
+    /**
+     * Records the latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    void record(long nanos);
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the recorded count
+     */
+    long getCount();
+
+    /**
+     * Returns the highest recorded latency.
+     *
+     * @return the highest latency in nanoseconds
+     */
+    long getMax();
+
+    /**
+     * Returns the mean of the recorded latencies.
+     *
+     * @return the mean latency in nanoseconds
+     */
+    double getMean();
+
+    /**
+     * Returns the latency at or below which the specified
+     * percentage of recorded latencies fall.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the latency in nanoseconds
+     */
+    long getValueAtPercentile(double percentile);
+
+    /**
+     * Removes all recorded latencies.
+     */
+    void reset();
+
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence;
+
+import com.google.common.reflect.TypeToken;
+import com.google.inject.assistedinject.Assisted;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents a typed key into a {@link SequenceContext}.
+ *
+ * <p>Registered keys are assigned a dense slot, which the context
+ * uses as an index into its backing array so that access does not
+ * hash the key or compare the element type.</p>
+ *
+ * @param <T> the element type
+ */
+public interface ContextKey<T> {
+
+    /**
+     * Returns the string key, used by the string based
+     * {@link SequenceContext} methods.
+     *
+     * @return the string key
+     */
+    @NonNull String getKey();
+
+    /**
+     * Returns the element type.
+     *
+     * @return the element type
+     */
+    @NonNull TypeToken<T> getElementType();
+
+    /**
+     * Returns the slot assigned to this key when it was registered
+     * in the {@link ContextKeyRegistry}, or {@code -1} if it has not
+     * been registered.
+     *
+     * @return the key slot
+     */
+    int getSlot();
+
+    /**
+     * Creates a new {@link ContextKey} through the {@link Factory},
+     * typed by the specified element type.
+     *
+     * @param factory the context key factory
+     * @param key the string key
+     * @param elementType the element type
+     * @param <T> the element type
+     * @return the new context key
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NonNull ContextKey<T> of(final @NonNull Factory factory, final @NonNull String key, final @NonNull TypeToken<T> elementType) {
+        return (ContextKey<T>) factory.create(key, elementType);
+    }
+
+    /**
+     * A factory for creating a new {@link ContextKey}.
+     */
+    interface Factory {
+
+        /**
+         * Creates a new {@link ContextKey} with the specified
+         * properties.
+         *
+         * <p>Use {@link ContextKey#of(Factory, String, TypeToken)}
+         * for a key typed by its element type.</p>
+         *
+         * @param key the string key
+         * @param elementType the element type
+         * @return the new context key
+         */
+        @NonNull ContextKey create(@NonNull @Assisted("key") String key,
+                                   @NonNull @Assisted("elementType") TypeToken<?> elementType);
+
+    }
+
+}
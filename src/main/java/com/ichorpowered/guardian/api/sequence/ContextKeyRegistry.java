@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence;
+
+import com.google.common.reflect.TypeToken;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Optional;
+
+public interface ContextKeyRegistry {
+
+    @NonNull Optional<ContextKey<?>> get(@NonNull String key);
+
+    @NonNull <T> Optional<ContextKey<T>> get(@NonNull String key, @NonNull TypeToken<T> typeToken);
+
+    /**
+     * Registers the {@link ContextKey} and assigns it the next
+     * slot, available from {@link ContextKey#getSlot()}.
+     *
+     * <p>Registering a key that is already registered keeps
+     * its existing slot.</p>
+     *
+     * @param contextKey the context key
+     * @return this registry
+     */
+    @NonNull ContextKeyRegistry register(@NonNull ContextKey<?> contextKey);
+
+    /**
+     * Returns the number of registered {@link ContextKey}s, which
+     * is the number of slots a {@link SequenceContext} requires.
+     *
+     * @return the number of registered keys
+     */
+    int size();
+
+}
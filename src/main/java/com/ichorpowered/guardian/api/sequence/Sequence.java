@@ -25,6 +25,7 @@
  */
 package com.ichorpowered.guardian.api.sequence;
 
+import com.ichorpowered.guardian.api.game.GameReference;
 import com.ichorpowered.guardian.api.sequence.process.Process;
 import com.ichorpowered.guardian.api.sequence.process.ProcessResult;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -47,4 +48,24 @@ public interface Sequence<T> {
 
     @NonNull ProcessResult tryScheduleAt();
 
+    /**
+     * Returns the number of ticks until the next after action,
+     * schedule action or expiry of this sequence is due, or
+     * {@code -1} if nothing is pending.
+     *
+     * @return the number of ticks until due
+     */
+    int getScheduleDelay();
+
+    /**
+     * Resets this sequence and its {@link Process} to the
+     * initial state for the provided event, {@link GameReference}
+     * and {@link SequenceContext}, so it can be reused.
+     *
+     * @param event the event
+     * @param gameReference the game reference
+     * @param sequenceContext the sequence context
+     */
+    void reset(@NonNull T event, @NonNull GameReference<?> gameReference, @NonNull SequenceContext sequenceContext);
+
 }
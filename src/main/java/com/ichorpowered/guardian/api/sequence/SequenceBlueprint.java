@@ -25,14 +25,48 @@
  */
 package com.ichorpowered.guardian.api.sequence;
 
+import com.ichorpowered.guardian.api.detection.Detection;
+import com.ichorpowered.guardian.api.detection.DetectionPriority;
+import com.ichorpowered.guardian.api.detection.stage.process.Check;
+import com.ichorpowered.guardian.api.game.GameReference;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public interface SequenceBlueprint<T> {
 
-    @NonNull Sequence<T> create(@NonNull T event, @NonNull SequenceContext sequenceContext);
+    /**
+     * Returns a {@link Sequence} for the provided event,
+     * {@link GameReference} and {@link SequenceContext}, reusing one
+     * from the {@link SequencePool} of this blueprint if available.
+     *
+     * @param event the event
+     * @param gameReference the game reference
+     * @param sequenceContext the sequence context
+     * @return the sequence
+     */
+    @NonNull Sequence<T> create(@NonNull T event, @NonNull GameReference<?> gameReference, @NonNull SequenceContext sequenceContext);
 
     @NonNull Class<T> getEventType();
 
     @NonNull SequenceContext getContext();
 
+    /**
+     * Returns the {@link DetectionPriority} of the {@link Detection}
+     * this blueprint was created for by {@link Check#getSequence(Detection)}.
+     *
+     * <p>This is what the {@link SequenceController} reads to order
+     * and shed invocations of this blueprint once the tick budget
+     * is spent.</p>
+     *
+     * @return the detection priority
+     */
+    @NonNull DetectionPriority getPriority();
+
+    /**
+     * Returns the {@link SequencePool} that retired {@link Sequence}s
+     * of this blueprint are returned to.
+     *
+     * @return the sequence pool
+     */
+    @NonNull SequencePool<T> getPool();
+
 }
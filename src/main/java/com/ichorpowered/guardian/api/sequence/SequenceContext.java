@@ -30,8 +30,20 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
+/**
+ * Represents the state shared between the actions
+ * of a {@link Sequence}.
+ *
+ * <p>Values are stored in slots assigned to each registered
+ * {@link ContextKey}, with primitive slots for {@code double} and
+ * {@code long} values. The string based methods resolve their key
+ * through the {@link ContextKeyRegistry} and are kept for
+ * compatibility, falling back to a map for unregistered keys.</p>
+ */
 public interface SequenceContext {
 
     @NonNull <T> T set(@NonNull String key, @NonNull TypeToken<T> typeToken, @NonNull T element);
@@ -42,12 +54,124 @@ public interface SequenceContext {
 
     @NonNull <T> SequenceContext transform(@NonNull String key, @NonNull TypeToken<T> typeToken, @NonNull Function<T, T> function);
 
+    /**
+     * Seeds this context with the entries of the provided
+     * {@link SequenceContext}.
+     *
+     * <p>The entries are structurally shared rather than copied,
+     * so this is constant time regardless of the size of the other
+     * context. An entry is only materialized in this context when it
+     * is written, and writes never affect the other context.</p>
+     *
+     * @param sequenceContext the other sequence context
+     * @return this sequence context
+     */
     @NonNull SequenceContext from(@NonNull SequenceContext sequenceContext);
 
+    /**
+     * Returns a new {@link SequenceContext} that structurally
+     * shares the entries of this context.
+     *
+     * <p>This is equivalent to seeding an empty context using
+     * {@link #from(SequenceContext)}. Writes to either context
+     * are not visible to the other.</p>
+     *
+     * @return the new sequence context
+     */
+    @NonNull SequenceContext fork();
+
     @Nullable <T> T get(@NonNull String key, @NonNull TypeToken<T> typeToken);
 
     @NonNull Map<String, Object> getAll();
 
     @NonNull <T> T remove(@NonNull String key, @NonNull TypeToken<T> typeToken);
 
+    /**
+     * Returns the element in the slot of the {@link ContextKey}.
+     *
+     * @param contextKey the context key
+     * @param <T> the element type
+     * @return the element, or null if not present
+     */
+    @Nullable <T> T get(@NonNull ContextKey<T> contextKey);
+
+    /**
+     * Sets the element in the slot of the {@link ContextKey}.
+     *
+     * @param contextKey the context key
+     * @param element the element
+     * @param <T> the element type
+     * @return the element
+     */
+    @NonNull <T> T set(@NonNull ContextKey<T> contextKey, @NonNull T element);
+
+    /**
+     * Transforms the element in the slot of the {@link ContextKey}
+     * with the provided {@link Function}.
+     *
+     * @param contextKey the context key
+     * @param function the function to apply on the existing element
+     * @param <T> the element type
+     * @return this sequence context
+     */
+    @NonNull <T> SequenceContext transform(@NonNull ContextKey<T> contextKey, @NonNull Function<T, T> function);
+
+    /**
+     * Returns the primitive {@code double} in the slot of the
+     * {@link ContextKey}, or {@code 0} if not present.
+     *
+     * @param contextKey the context key
+     * @return the value
+     */
+    double getDouble(@NonNull ContextKey<Double> contextKey);
+
+    /**
+     * Sets the primitive {@code double} in the slot of the
+     * {@link ContextKey}.
+     *
+     * @param contextKey the context key
+     * @param value the value
+     * @return this sequence context
+     */
+    @NonNull SequenceContext setDouble(@NonNull ContextKey<Double> contextKey, double value);
+
+    /**
+     * Transforms the primitive {@code double} in the slot of the
+     * {@link ContextKey} with the provided {@link DoubleUnaryOperator}.
+     *
+     * @param contextKey the context key
+     * @param operator the operator to apply on the existing value
+     * @return this sequence context
+     */
+    @NonNull SequenceContext transformDouble(@NonNull ContextKey<Double> contextKey, @NonNull DoubleUnaryOperator operator);
+
+    /**
+     * Returns the primitive {@code long} in the slot of the
+     * {@link ContextKey}, or {@code 0} if not present.
+     *
+     * @param contextKey the context key
+     * @return the value
+     */
+    long getLong(@NonNull ContextKey<Long> contextKey);
+
+    /**
+     * Sets the primitive {@code long} in the slot of the
+     * {@link ContextKey}.
+     *
+     * @param contextKey the context key
+     * @param value the value
+     * @return this sequence context
+     */
+    @NonNull SequenceContext setLong(@NonNull ContextKey<Long> contextKey, long value);
+
+    /**
+     * Transforms the primitive {@code long} in the slot of the
+     * {@link ContextKey} with the provided {@link LongUnaryOperator}.
+     *
+     * @param contextKey the context key
+     * @param operator the operator to apply on the existing value
+     * @return this sequence context
+     */
+    @NonNull SequenceContext transformLong(@NonNull ContextKey<Long> contextKey, @NonNull LongUnaryOperator operator);
+
 }
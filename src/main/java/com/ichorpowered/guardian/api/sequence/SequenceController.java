@@ -25,9 +25,11 @@
  */
 package com.ichorpowered.guardian.api.sequence;
 
+import com.ichorpowered.guardian.api.detection.DetectionPriority;
 import com.ichorpowered.guardian.api.game.GameReference;
 import com.ichorpowered.guardian.api.game.resource.PlayerGroupResource;
 import com.ichorpowered.guardian.api.game.resource.PlayerResource;
+import com.ichorpowered.guardian.api.storage.GlobalConfiguration;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.function.Predicate;
@@ -39,6 +41,10 @@ public interface SequenceController<T> {
      * {@link GameReference} and {@link SequenceContext}
      * if the predicate returns {@code true}.
      *
+     * <p>Only {@link Sequence}s whose event type is indexed for the
+     * class of the event by {@link SequenceRegistry#getFor(Class)} are
+     * tested against the predicate.</p>
+     *
      * @param event the event
      * @param gameReference the player reference
      * @param sequenceContext the sequence context
@@ -47,6 +53,22 @@ public interface SequenceController<T> {
     void invokeObserver(@NonNull T event, @NonNull GameReference<?> gameReference,
                         @NonNull SequenceContext sequenceContext, @NonNull Predicate<Sequence<T>> predicate);
 
+    /**
+     * Invokes the observer test with the provided event,
+     * {@link GameReference} and {@link SequenceContext} for
+     * every {@link Sequence} that can consume the event.
+     *
+     * <p>Sequences are resolved through the event type dispatch
+     * index of the {@link SequenceRegistry}, so sequences of
+     * unrelated event types are never visited.</p>
+     *
+     * @param event the event
+     * @param gameReference the player reference
+     * @param sequenceContext the sequence context
+     */
+    void invokeObserver(@NonNull T event, @NonNull GameReference<?> gameReference,
+                        @NonNull SequenceContext sequenceContext);
+
     /**
      * Invokes the scheduler update with the provided
      * {@link SequenceContext} if the predicate returns
@@ -59,11 +81,67 @@ public interface SequenceController<T> {
     void invokeScheduler(@NonNull GameReference<?> gameReference, @NonNull SequenceContext sequenceContext,
                          @NonNull Predicate<Sequence<T>> predicate);
 
+    /**
+     * Advances the {@link SequenceScheduler} by one tick and
+     * invokes the scheduler update with the provided
+     * {@link SequenceContext} for each {@link Sequence} that is due.
+     *
+     * <p>Sequences that remain active afterwards are filed
+     * again by their {@link Sequence#getScheduleDelay()}.</p>
+     *
+     * @param sequenceContext the sequence context
+     */
+    void invokeScheduler(@NonNull SequenceContext sequenceContext);
+
+    /**
+     * Starts the time budget for the next tick and runs the
+     * invocations that were deferred from the previous tick.
+     *
+     * <p>Once the budget from {@link GlobalConfiguration#getTickBudget()}
+     * is spent, observer and scheduler invocations for detections are
+     * deferred to the next tick or sampled according to their
+     * {@link DetectionPriority}.</p>
+     */
+    void startTick();
+
+    /**
+     * Buffers the event for the {@link GameReference} to be observed
+     * by the worker of its group on the next call to
+     * {@link #invokeGroups(SequenceContext)}.
+     *
+     * <p>If the execution mode is {@link ExecutionMode#SERIAL}, the
+     * event is observed immediately on the calling thread.</p>
+     *
+     * @param event the event
+     * @param gameReference the player reference
+     * @param sequenceContext the sequence context
+     */
+    void bufferObserver(@NonNull T event, @NonNull GameReference<?> gameReference,
+                        @NonNull SequenceContext sequenceContext);
+
+    /**
+     * Runs the buffered observers and the scheduler update for each
+     * group of the {@link PlayerGroupResource} on its own worker, then
+     * waits for every group to finish before applying their results
+     * on the calling thread.
+     *
+     * <p>This is expected to be called once at the end of each tick
+     * from the game thread. If the execution mode is
+     * {@link ExecutionMode#SERIAL}, the groups are run on the
+     * calling thread.</p>
+     *
+     * @param sequenceContext the sequence context
+     */
+    void invokeGroups(@NonNull SequenceContext sequenceContext);
+
     /**
      * Adds the event type and {@link GameReference}
      * to the sequence avoidance list, which skips running
      * {@link Sequence}s under those conditions.
      *
+     * <p>This never blocks the calling thread. The event type stays
+     * avoided until every ticket for it has been removed.</p>
+     *
      * @param gameReference the player reference
      * @param eventType the event type
      * @return the id of the avoidance ticket
@@ -82,12 +160,90 @@ public interface SequenceController<T> {
      */
     boolean unavoidObserver(@NonNull GameReference<?> gameReference, @NonNull Class<? extends T> eventType, long index);
 
+    /**
+     * Returns true if the event type is currently on the sequence
+     * avoidance list for the {@link GameReference}.
+     *
+     * <p>This is checked for every observed event, so it must not
+     * block or take a lock.</p>
+     *
+     * @param gameReference the player reference
+     * @param eventType the event type
+     * @return true if the event type is avoided
+     */
+    boolean isAvoided(@NonNull GameReference<?> gameReference, @NonNull Class<? extends T> eventType);
+
+    /**
+     * Returns the number of sequence invocations whose
+     * {@link SequenceBlueprint#getPriority()} is the specified
+     * {@link DetectionPriority} that were
+     * deferred or sampled out because the tick budget from
+     * {@link GlobalConfiguration#getTickBudget()} was spent.
+     *
+     * @param priority the detection priority
+     * @return the number of shed invocations
+     */
+    long getShedCount(@NonNull DetectionPriority priority);
+
+    /**
+     * Returns the {@link SequenceRegistry} this controller
+     * dispatches events from.
+     *
+     * @return the sequence registry
+     */
+    @NonNull SequenceRegistry getSequenceRegistry();
+
+    /**
+     * Returns the {@link SequenceScheduler} that files the
+     * active {@link Sequence}s by their next due tick.
+     *
+     * @return the sequence scheduler
+     */
+    @NonNull SequenceScheduler<T> getScheduler();
+
+    /**
+     * Returns the mode used to run the groups of the
+     * {@link PlayerGroupResource}.
+     *
+     * @return the execution mode
+     */
+    @NonNull ExecutionMode getExecutionMode();
+
+    /**
+     * Sets the mode used to run the groups of the
+     * {@link PlayerGroupResource}.
+     *
+     * @param executionMode the execution mode
+     */
+    void setExecutionMode(@NonNull ExecutionMode executionMode);
+
     @NonNull PlayerResource getPlayerResource();
 
     @NonNull PlayerGroupResource getPlayerGroupResource();
 
+    /**
+     * Removes {@link Sequence}s that are no longer active, returning
+     * them to the {@link SequencePool} of their blueprint.
+     *
+     * @param force true to remove all sequences
+     */
     void clean(boolean force);
 
     void clean(@NonNull GameReference<?> gameReference, boolean force);
 
+    enum ExecutionMode {
+
+        /**
+         * Runs every group on the game thread.
+         */
+        SERIAL,
+
+        /**
+         * Runs each group on a worker from a fixed pool
+         * sized to the available processors.
+         */
+        GROUPED
+
+    }
+
 }
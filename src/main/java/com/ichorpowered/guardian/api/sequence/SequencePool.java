@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence;
+
+import com.ichorpowered.guardian.api.game.GameReference;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Represents a bounded pool of {@link Sequence}s owned by a
+ * {@link SequenceBlueprint}, striped per thread so acquiring
+ * and releasing does not contend between threads.
+ *
+ * <p>Released sequences have their {@link Process}, captures
+ * and context reset and their captures bound to the acquiring
+ * {@link GameReference} before they are handed out again. If the
+ * pool is full, released sequences are left for collection.</p>
+ *
+ * <p>In debug mode, sequences that are acquired and become
+ * unreachable without being released are reported as leaks.</p>
+ *
+ * @param <T> the event type
+ */
+public interface SequencePool<T> {
+
+    /**
+     * Returns a reset {@link Sequence} from the pool for the
+     * provided event, {@link GameReference} and {@link SequenceContext},
+     * creating a new one if the pool is empty.
+     *
+     * @param event the event
+     * @param gameReference the game reference
+     * @param sequenceContext the sequence context
+     * @return the sequence
+     */
+    @NonNull Sequence<T> acquire(@NonNull T event, @NonNull GameReference<?> gameReference, @NonNull SequenceContext sequenceContext);
+
+    /**
+     * Returns the {@link Sequence} to the pool to be reused.
+     *
+     * <p>The sequence must not be used by the caller after it
+     * has been released. It should be released on the thread that
+     * acquired it, so it returns to the stripe of that thread.</p>
+     *
+     * @param sequence the sequence
+     * @return true if it was pooled, false if the pool is full
+     */
+    boolean release(@NonNull Sequence<T> sequence);
+
+    /**
+     * Returns the number of idle {@link Sequence}s in the pool.
+     *
+     * @return the number of idle sequences
+     */
+    int size();
+
+    /**
+     * Returns the maximum number of idle {@link Sequence}s
+     * the pool retains.
+     *
+     * @return the pool capacity
+     */
+    int capacity();
+
+    /**
+     * Returns the number of {@link Sequence}s that have been
+     * acquired and not yet released.
+     *
+     * @return the number of outstanding sequences
+     */
+    int outstanding();
+
+    /**
+     * Returns true if leak detection is enabled for this pool.
+     *
+     * @return true if in debug mode
+     */
+    boolean isDebug();
+
+}
@@ -27,6 +27,7 @@ package com.ichorpowered.guardian.api.sequence;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -40,4 +41,20 @@ public interface SequenceRegistry extends Iterable<SequenceBlueprint<?>> {
 
     @NonNull Set<SequenceBlueprint<?>> values();
 
+    /**
+     * Returns the {@link SequenceBlueprint}s that can consume an event
+     * of the specified type, using the {@link SequenceBlueprint#getEventType()}
+     * of each registered blueprint.
+     *
+     * <p>This includes blueprints registered against any supertype or
+     * interface of the event type. The supertypes of a concrete event
+     * class are resolved once and the result is cached until the registry
+     * is modified, so dispatch cost is proportional to the number of
+     * matching blueprints rather than the total number registered.</p>
+     *
+     * @param eventType the concrete event type
+     * @return an immutable list of blueprints consuming the event type
+     */
+    @NonNull List<SequenceBlueprint<?>> getFor(@NonNull Class<?> eventType);
+
 }
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence;
+
+import com.ichorpowered.guardian.api.game.GameReference;
+import com.ichorpowered.guardian.api.sequence.action.Expirable;
+import com.ichorpowered.guardian.api.sequence.action.after.AfterAction;
+import com.ichorpowered.guardian.api.sequence.action.schedule.ScheduleAction;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Represents a hierarchical timing wheel that files each
+ * {@link Sequence} by the tick its next {@link AfterAction},
+ * {@link ScheduleAction} or {@link Expirable} expiry is due.
+ *
+ * <p>Advancing the wheel only visits the slot for the current
+ * tick, so the cost of a tick is proportional to the number of
+ * due sequences rather than the number of live sequences.
+ * Sequences due further than the span of the lowest wheel are
+ * cascaded down from the higher wheels as their slot is reached.</p>
+ *
+ * @param <T> the event type
+ */
+public interface SequenceScheduler<T> {
+
+    /**
+     * Returns the current tick of the wheel.
+     *
+     * @return the current tick
+     */
+    long getTick();
+
+    /**
+     * Files the {@link Sequence} of the {@link GameReference} to be
+     * woken after the specified number of ticks.
+     *
+     * <p>Scheduling a sequence that is already filed moves it
+     * to the new due tick.</p>
+     *
+     * @param gameReference the player reference
+     * @param sequence the sequence
+     * @param delay the number of ticks until it is due
+     * @return the tick the sequence is due
+     */
+    long schedule(@NonNull GameReference<?> gameReference, @NonNull Sequence<T> sequence, int delay);
+
+    /**
+     * Removes the {@link Sequence} from the wheel.
+     *
+     * @param sequence the sequence
+     * @return true if it successfully removes, false if it does not
+     */
+    boolean cancel(@NonNull Sequence<T> sequence);
+
+    /**
+     * Removes every {@link Sequence} of the {@link GameReference}
+     * from the wheel.
+     *
+     * @param gameReference the player reference
+     * @return the number of sequences removed
+     */
+    int cancel(@NonNull GameReference<?> gameReference);
+
+    /**
+     * Advances the wheel by one tick and passes each {@link Sequence}
+     * that is due to the provided {@link BiConsumer}.
+     *
+     * <p>Due sequences are removed from the wheel before they are
+     * passed to the consumer, which may schedule them again using
+     * {@link Sequence#getScheduleDelay()}.</p>
+     *
+     * @param consumer the due sequence consumer
+     * @return the number of due sequences
+     */
+    int advance(@NonNull BiConsumer<GameReference<?>, Sequence<T>> consumer);
+
+    /**
+     * Returns the number of {@link Sequence}s filed in the wheel.
+     *
+     * @return the number of filed sequences
+     */
+    int size();
+
+}
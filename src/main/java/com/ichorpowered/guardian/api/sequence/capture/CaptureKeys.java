@@ -26,6 +26,8 @@
 package com.ichorpowered.guardian.api.sequence.capture;
 
 import com.ichorpowered.guardian.api.game.model.value.key.GameKey;
+import com.ichorpowered.guardian.api.game.model.value.key.GameKeys;
+import com.ichorpowered.guardian.api.sequence.capture.statistic.RollingStatistic;
 import org.spongepowered.api.util.generator.dummy.DummyObjectProvider;
 
 @SuppressWarnings({"unused", "WeakerAccess"})
@@ -45,4 +47,18 @@ public final class CaptureKeys {
 
     public static GameKey<CaptureValue> CLIENT_TICK_CAPTURE = DummyObjectProvider.createExtendedFor(GameKey.class, "client_tick_capture");
 
+    // Statistics
+
+    /**
+     * A {@link RollingStatistic} of the client ping, whose mean is
+     * offered to {@link GameKeys#AVERAGE_PING}.
+     */
+    public static GameKey<CaptureValue> CLIENT_PING_STATISTIC = DummyObjectProvider.createExtendedFor(GameKey.class, "client_ping_statistic");
+
+    /**
+     * A {@link RollingStatistic} of the client tick rate, whose mean
+     * is offered to {@link GameKeys#AVERAGE_TICK_RATE}.
+     */
+    public static GameKey<CaptureValue> CLIENT_TICK_STATISTIC = DummyObjectProvider.createExtendedFor(GameKey.class, "client_tick_statistic");
+
 }
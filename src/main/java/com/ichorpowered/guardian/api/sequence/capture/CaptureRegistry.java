@@ -47,4 +47,16 @@ public interface CaptureRegistry {
 
     @NonNull Set<GameKey<CaptureValue>> defaultKeys();
 
+    /**
+     * Removes all captured values and binds this registry to the
+     * {@link GameReference}, so it can be reused by another process
+     * for another game object.
+     *
+     * <p>{@link #getGameReference()} returns the new game reference
+     * from then on.</p>
+     *
+     * @param gameReference the game reference
+     */
+    void clear(@NonNull GameReference<?> gameReference);
+
 }
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence.capture.statistic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link StatisticCapture} of the exponentially weighted
+ * moving average and variance of its samples.
+ *
+ * <p>Each sample contributes with weight {@code alpha}, with older
+ * samples decaying by {@code 1 - alpha}, so no samples are kept.</p>
+ */
+public final class ExponentialAverage extends StatisticCapture {
+
+    private final double alpha;
+
+    private long count;
+    private double mean;
+    private double variance;
+
+    public ExponentialAverage(final @NonNull ToDoubleFunction<Process> sampler, final double alpha) {
+        super(sampler);
+
+        checkArgument(alpha > 0 && alpha <= 1, "Alpha must be within (0, 1]!");
+
+        this.alpha = alpha;
+    }
+
+    @Override
+    public void add(double sample) {
+        if (this.count++ == 0) {
+            this.mean = sample;
+            return;
+        }
+
+        final double delta = sample - this.mean;
+        final double increment = this.alpha * delta;
+
+        this.mean += increment;
+        this.variance = (1 - this.alpha) * (this.variance + delta * increment);
+    }
+
+    /**
+     * Returns the smoothing factor.
+     *
+     * @return the alpha
+     */
+    public double getAlpha() {
+        return this.alpha;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public double getMean() {
+        return this.mean;
+    }
+
+    /**
+     * Returns the exponentially weighted variance.
+     *
+     * @return the variance
+     */
+    public double getVariance() {
+        return this.variance;
+    }
+
+    @Override
+    public void reset() {
+        this.count = 0;
+        this.mean = 0;
+        this.variance = 0;
+    }
+
+}
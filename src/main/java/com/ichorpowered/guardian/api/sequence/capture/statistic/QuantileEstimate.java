@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence.capture.statistic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link StatisticCapture} estimating a single quantile of its
+ * samples with the P-square algorithm.
+ *
+ * <p>Five markers are kept and adjusted with piecewise parabolic
+ * interpolation as samples arrive, so the estimate uses constant
+ * memory regardless of the number of samples.</p>
+ */
+public final class QuantileEstimate extends StatisticCapture {
+
+    private static final int MARKERS = 5;
+
+    private final double quantile;
+    private final double[] heights = new double[MARKERS];
+    private final long[] positions = new long[MARKERS];
+    private final double[] desired = new double[MARKERS];
+    private final double[] increments;
+
+    private long count;
+    private double sum;
+
+    public QuantileEstimate(final @NonNull ToDoubleFunction<Process> sampler, final double quantile) {
+        super(sampler);
+
+        checkArgument(quantile > 0 && quantile < 1, "Quantile must be within (0, 1)!");
+
+        this.quantile = quantile;
+        this.increments = new double[] { 0, quantile / 2, quantile, (1 + quantile) / 2, 1 };
+        this.reset();
+    }
+
+    @Override
+    public void add(double sample) {
+        this.sum += sample;
+
+        if (this.count < MARKERS) {
+            int index = (int) this.count++;
+
+            // Insertion sort the initial samples into the markers.
+            while (index > 0 && this.heights[index - 1] > sample) {
+                this.heights[index] = this.heights[index - 1];
+                index--;
+            }
+
+            this.heights[index] = sample;
+            return;
+        }
+
+        this.count++;
+
+        final int cell;
+        if (sample < this.heights[0]) {
+            this.heights[0] = sample;
+            cell = 0;
+        } else if (sample >= this.heights[4]) {
+            this.heights[4] = sample;
+            cell = 3;
+        } else {
+            int index = 1;
+            while (sample >= this.heights[index]) index++;
+            cell = index - 1;
+        }
+
+        for (int i = cell + 1; i < MARKERS; i++) this.positions[i]++;
+        for (int i = 0; i < MARKERS; i++) this.desired[i] += this.increments[i];
+
+        for (int i = 1; i < MARKERS - 1; i++) {
+            final double offset = this.desired[i] - this.positions[i];
+
+            if ((offset >= 1 && this.positions[i + 1] - this.positions[i] > 1)
+                    || (offset <= -1 && this.positions[i - 1] - this.positions[i] < -1)) {
+                final int direction = offset > 0 ? 1 : -1;
+                final double parabolic = this.parabolic(i, direction);
+
+                if (this.heights[i - 1] < parabolic && parabolic < this.heights[i + 1]) {
+                    this.heights[i] = parabolic;
+                } else {
+                    this.heights[i] = this.linear(i, direction);
+                }
+
+                this.positions[i] += direction;
+            }
+        }
+    }
+
+    /**
+     * Returns the quantile being estimated.
+     *
+     * @return the quantile
+     */
+    public double getQuantile() {
+        return this.quantile;
+    }
+
+    /**
+     * Returns the estimated value at the quantile, or {@code 0}
+     * if there are no samples.
+     *
+     * @return the estimated value
+     */
+    public double getEstimate() {
+        if (this.count == 0) return 0;
+        if (this.count >= MARKERS) return this.heights[2];
+
+        return this.heights[(int) Math.round(this.quantile * (this.count - 1))];
+    }
+
+    @Override
+    public long getCount() {
+        return this.count;
+    }
+
+    @Override
+    public double getMean() {
+        return this.count > 0 ? this.sum / this.count : 0;
+    }
+
+    @Override
+    public void reset() {
+        this.count = 0;
+        this.sum = 0;
+
+        for (int i = 0; i < MARKERS; i++) this.positions[i] = i;
+
+        this.desired[0] = 0;
+        this.desired[1] = 2 * this.quantile;
+        this.desired[2] = 4 * this.quantile;
+        this.desired[3] = 2 + 2 * this.quantile;
+        this.desired[4] = 4;
+    }
+
+    private double parabolic(final int i, final int direction) {
+        final double below = this.positions[i] - this.positions[i - 1];
+        final double above = this.positions[i + 1] - this.positions[i];
+
+        return this.heights[i] + direction / (double) (this.positions[i + 1] - this.positions[i - 1])
+                * ((below + direction) * (this.heights[i + 1] - this.heights[i]) / above
+                + (above - direction) * (this.heights[i] - this.heights[i - 1]) / below);
+    }
+
+    private double linear(final int i, final int direction) {
+        return this.heights[i] + direction * (this.heights[i + direction] - this.heights[i])
+                / (this.positions[i + direction] - this.positions[i]);
+    }
+
+}
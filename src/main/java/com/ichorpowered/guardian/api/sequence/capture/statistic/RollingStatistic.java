@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence.capture.statistic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link StatisticCapture} over a window of the most recent
+ * samples, backed by a primitive ring buffer.
+ *
+ * <p>The mean and variance are maintained with Welford's algorithm,
+ * replacing the evicted sample as the window rolls. The minimum and
+ * maximum are maintained with monotonic queues, so every query and
+ * amortized update is constant time.</p>
+ */
+public final class RollingStatistic extends StatisticCapture {
+
+    private final int capacity;
+    private final double[] samples;
+
+    private final double[] minValues;
+    private final long[] minSequences;
+    private int minHead;
+    private int minSize;
+
+    private final double[] maxValues;
+    private final long[] maxSequences;
+    private int maxHead;
+    private int maxSize;
+
+    private long sequence;
+    private double mean;
+    private double squares;
+
+    public RollingStatistic(final @NonNull ToDoubleFunction<Process> sampler, final int capacity) {
+        super(sampler);
+
+        checkArgument(capacity > 0, "Capacity must be positive!");
+
+        this.capacity = capacity;
+        this.samples = new double[capacity];
+        this.minValues = new double[capacity];
+        this.minSequences = new long[capacity];
+        this.maxValues = new double[capacity];
+        this.maxSequences = new long[capacity];
+    }
+
+    @Override
+    public void add(double sample) {
+        final int index = (int) (this.sequence % this.capacity);
+
+        if (this.sequence < this.capacity) {
+            final double delta = sample - this.mean;
+            this.mean += delta / (this.sequence + 1);
+            this.squares += delta * (sample - this.mean);
+        } else {
+            final double evicted = this.samples[index];
+            final double previousMean = this.mean;
+            this.mean += (sample - evicted) / this.capacity;
+            this.squares = Math.max(0, this.squares + (sample - evicted) * (sample - this.mean + evicted - previousMean));
+        }
+
+        this.samples[index] = sample;
+
+        final long expired = this.sequence - this.capacity;
+
+        // Minimum
+
+        if (this.minSize > 0 && this.minSequences[this.minHead] <= expired) {
+            this.minHead = (this.minHead + 1) % this.capacity;
+            this.minSize--;
+        }
+
+        while (this.minSize > 0 && this.minValues[(this.minHead + this.minSize - 1) % this.capacity] >= sample) this.minSize--;
+
+        final int minTail = (this.minHead + this.minSize++) % this.capacity;
+        this.minValues[minTail] = sample;
+        this.minSequences[minTail] = this.sequence;
+
+        // Maximum
+
+        if (this.maxSize > 0 && this.maxSequences[this.maxHead] <= expired) {
+            this.maxHead = (this.maxHead + 1) % this.capacity;
+            this.maxSize--;
+        }
+
+        while (this.maxSize > 0 && this.maxValues[(this.maxHead + this.maxSize - 1) % this.capacity] <= sample) this.maxSize--;
+
+        final int maxTail = (this.maxHead + this.maxSize++) % this.capacity;
+        this.maxValues[maxTail] = sample;
+        this.maxSequences[maxTail] = this.sequence;
+
+        this.sequence++;
+    }
+
+    /**
+     * Returns the maximum number of samples in the window.
+     *
+     * @return the window capacity
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public long getCount() {
+        return Math.min(this.sequence, this.capacity);
+    }
+
+    @Override
+    public double getMean() {
+        return this.mean;
+    }
+
+    /**
+     * Returns the population variance of the samples in the
+     * window, or {@code 0} if there are none.
+     *
+     * @return the variance
+     */
+    public double getVariance() {
+        final long count = this.getCount();
+        return count > 0 ? this.squares / count : 0;
+    }
+
+    /**
+     * Returns the population standard deviation of the samples
+     * in the window, or {@code 0} if there are none.
+     *
+     * @return the standard deviation
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(this.getVariance());
+    }
+
+    /**
+     * Returns the smallest sample in the window, or {@code 0}
+     * if there are none.
+     *
+     * @return the minimum
+     */
+    public double getMin() {
+        return this.minSize > 0 ? this.minValues[this.minHead] : 0;
+    }
+
+    /**
+     * Returns the largest sample in the window, or {@code 0}
+     * if there are none.
+     *
+     * @return the maximum
+     */
+    public double getMax() {
+        return this.maxSize > 0 ? this.maxValues[this.maxHead] : 0;
+    }
+
+    /**
+     * Returns the most recent sample, or {@code 0} if there
+     * are none.
+     *
+     * @return the latest sample
+     */
+    public double getLatest() {
+        return this.sequence > 0 ? this.samples[(int) ((this.sequence - 1) % this.capacity)] : 0;
+    }
+
+    @Override
+    public void reset() {
+        this.sequence = 0;
+        this.mean = 0;
+        this.squares = 0;
+        this.minHead = 0;
+        this.minSize = 0;
+        this.maxHead = 0;
+        this.maxSize = 0;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 Connor Hartley
+ * Copyright (c) 2018 SpongePowered
+ * Copyright (c) 2018 contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ichorpowered.guardian.api.sequence.capture.statistic;
+
+import com.ichorpowered.guardian.api.game.model.Component;
+import com.ichorpowered.guardian.api.game.model.Model;
+import com.ichorpowered.guardian.api.game.model.ModelSnapshot;
+import com.ichorpowered.guardian.api.game.model.value.key.GameKey;
+import com.ichorpowered.guardian.api.game.model.value.key.GameKeys;
+import com.ichorpowered.guardian.api.sequence.capture.CaptureKeys;
+import com.ichorpowered.guardian.api.sequence.capture.CaptureRegistry;
+import com.ichorpowered.guardian.api.sequence.capture.CaptureValue;
+import com.ichorpowered.guardian.api.sequence.process.Process;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Represents a {@link CaptureValue} that aggregates a sample taken
+ * from each {@link Process} it is applied to.
+ *
+ * <p>Samples are folded into primitive state as they arrive, so
+ * applying the capture is constant time and never allocates.</p>
+ *
+ * <p>A statistic set in the {@link CaptureRegistry} of a {@link Process}
+ * lives only as long as that process, as it is cleared when the
+ * process is reset, so it only aggregates the samples of a single
+ * sequence. A statistic that should build up across sequences, such
+ * as the ping of a player, must be kept per player outside the
+ * registry and applied from each process.</p>
+ *
+ * <p>A statistic is not thread-safe. It must only be applied and
+ * read by the thread that runs its {@link Process}, and other
+ * threads should read the values it offers to a {@link Model}
+ * through a {@link ModelSnapshot}.</p>
+ */
+public abstract class StatisticCapture implements CaptureValue {
+
+    private final ToDoubleFunction<Process> sampler;
+
+    protected StatisticCapture(final @NonNull ToDoubleFunction<Process> sampler) {
+        this.sampler = sampler;
+    }
+
+    @Override
+    public void apply(@NonNull Process process) {
+        this.add(this.sampler.applyAsDouble(process));
+    }
+
+    /**
+     * Adds the sample to this statistic.
+     *
+     * @param sample the sample
+     */
+    public abstract void add(double sample);
+
+    /**
+     * Returns the number of samples this statistic
+     * currently represents.
+     *
+     * @return the sample count
+     */
+    public abstract long getCount();
+
+    /**
+     * Returns the mean of the samples, or {@code 0} if
+     * there are none.
+     *
+     * @return the mean
+     */
+    public abstract double getMean();
+
+    /**
+     * Offers the mean of the samples to each {@link Component} of
+     * the {@link Model} containing the {@link GameKey} without boxing,
+     * such as the mean of {@link CaptureKeys#CLIENT_PING_STATISTIC}
+     * to {@link GameKeys#AVERAGE_PING}.
+     *
+     * @param model the model
+     * @param gameKey the game key
+     * @return the number of values that were set
+     */
+    public int offerMean(final @NonNull Model model, final @NonNull GameKey<Double> gameKey) {
+        return model.resolve(gameKey).offerDouble(this.getMean());
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public abstract void reset();
+
+}
@@ -25,6 +25,7 @@
  */
 package com.ichorpowered.guardian.api.sequence.process;
 
+import com.ichorpowered.guardian.api.game.GameReference;
 import com.ichorpowered.guardian.api.sequence.SequenceContext;
 import com.ichorpowered.guardian.api.sequence.capture.CaptureRegistry;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -45,6 +46,18 @@ public interface Process {
 
     @NonNull SequenceContext getContext();
 
+    /**
+     * Resets this process to the {@link State#INACTIVE} state at
+     * the first action, clearing its captures, binding them to the
+     * provided {@link GameReference} and replacing its context with
+     * the provided {@link SequenceContext}.
+     *
+     * @param gameReference the game reference
+     * @param sequenceContext the sequence context
+     * @return this process
+     */
+    @NonNull Process reset(@NonNull GameReference<?> gameReference, @NonNull SequenceContext sequenceContext);
+
     enum State {
 
         ACTIVE(true),
@@ -25,12 +25,29 @@
  */
 package com.ichorpowered.guardian.api.storage;
 
+import com.ichorpowered.guardian.api.detection.violation.ViolationAggregator;
+import com.ichorpowered.guardian.api.game.model.EvictionPolicy;
+import com.ichorpowered.guardian.api.game.model.ModelRegistry;
+import com.ichorpowered.guardian.api.game.model.value.table.NamedDoubleTable;
+import com.ichorpowered.guardian.api.game.model.value.table.NamedDoubleTableSerializer;
+import com.ichorpowered.guardian.api.sequence.SequenceBlueprint;
+import com.ichorpowered.guardian.api.sequence.SequenceController;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.loader.ConfigurationLoader;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public interface GlobalConfiguration {
 
+    /**
+     * Loads the configuration from the source.
+     *
+     * <p>The source is expected to register the
+     * {@link NamedDoubleTableSerializer}, so that name to number
+     * mappings are read directly into a {@link NamedDoubleTable}.</p>
+     *
+     * @param overwrite whether to overwrite the source with the defaults
+     * @param merge whether to merge the defaults into the source
+     */
     void load(boolean overwrite, boolean merge);
 
     @NonNull ConfigurationLoader<CommentedConfigurationNode> getSource();
@@ -41,4 +58,35 @@ public interface GlobalConfiguration {
 
     @NonNull CommentedConfigurationNode getModel(@NonNull String model);
 
+    /**
+     * Returns the time the {@link SequenceController} may spend
+     * invoking sequences each tick before it begins deferring
+     * lower priority detections, or {@code 0} for no budget.
+     *
+     * <p>The priority of each invocation is read from
+     * {@link SequenceBlueprint#getPriority()} of the sequence
+     * being invoked.</p>
+     *
+     * @return the tick budget in nanoseconds
+     */
+    long getTickBudget();
+
+    /**
+     * Returns the number of ticks the {@link ViolationAggregator}
+     * coalesces violations over, during which each penalty runs at
+     * most once for each player and detection, or {@code 0} to run
+     * every penalty for each violation.
+     *
+     * @return the violation window in ticks
+     */
+    int getViolationWindow();
+
+    /**
+     * Returns the {@link EvictionPolicy} the {@link ModelRegistry}
+     * enforces.
+     *
+     * @return the model eviction policy
+     */
+    @NonNull EvictionPolicy getEvictionPolicy();
+
 }